@@ -1,14 +1,14 @@
 package com.airbnb.epoxy;
 
-import android.os.Handler;
-
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import androidx.annotation.AnyThread;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
 import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.DiffUtil.ItemCallback;
 
@@ -28,13 +28,27 @@ class AsyncEpoxyDiffer {
   private final ResultCallback resultCallback;
   private final ItemCallback<EpoxyModel<?>> diffCallback;
   private final GenerationTracker generationTracker = new GenerationTracker();
+  /** Replaces the default DiffUtil diff if non null. Volatile because it is read on the differ. */
+  @Nullable private volatile EpoxyDiffStrategy diffStrategy;
+  /** Whether the default diff looks for moved items. Volatile because it is read on the differ. */
+  private volatile boolean detectMoves = true;
+  private final AtomicInteger abortedDiffCount = new AtomicInteger();
+
+  /*
+   * At most one diff is scheduled at a time. These track the newest list submitted that still
+   * needs to be diffed, and are guarded by this.
+   */
+  @Nullable private List<? extends EpoxyModel<?>> pendingList;
+  private int pendingGeneration;
+  private boolean isPendingDiffScheduled;
+  private int conflatedSubmissionCount;
 
   AsyncEpoxyDiffer(
-      @NonNull Handler handler,
+      @NonNull Executor executor,
       @NonNull ResultCallback resultCallback,
       @NonNull ItemCallback<EpoxyModel<?>> diffCallback
   ) {
-    this.executor = new HandlerExecutor(handler);
+    this.executor = executor;
     this.resultCallback = resultCallback;
     this.diffCallback = diffCallback;
   }
@@ -50,6 +64,10 @@ class AsyncEpoxyDiffer {
   @NonNull
   private volatile List<? extends EpoxyModel<?>> readOnlyList = Collections.emptyList();
 
+  /** Positions of the models in the current list by id. Latched together with the list. */
+  @NonNull
+  private volatile ModelIdIndex idIndex = ModelIdIndex.EMPTY;
+
   /**
    * Get the current List - any diffing to present this list has already been computed and
    * dispatched via the ListUpdateCallback.
@@ -67,6 +85,45 @@ class AsyncEpoxyDiffer {
     return readOnlyList;
   }
 
+  /**
+   * Get an index of the current list by model id. It is updated whenever the current list is, and
+   * always refers to the list it was built for.
+   */
+  @AnyThread
+  @NonNull
+  ModelIdIndex getIdIndex() {
+    return idIndex;
+  }
+
+  /**
+   * Set a strategy to calculate diffs with instead of {@link DiffUtil}, or null to use the default
+   * diffing. This applies to the next list that is submitted.
+   */
+  @AnyThread
+  void setDiffStrategy(@Nullable EpoxyDiffStrategy diffStrategy) {
+    this.diffStrategy = diffStrategy;
+  }
+
+  @AnyThread
+  @Nullable
+  EpoxyDiffStrategy getDiffStrategy() {
+    return diffStrategy;
+  }
+
+  /**
+   * Set whether the default DiffUtil diff detects moved items. This applies to the next list that
+   * is diffed.
+   */
+  @AnyThread
+  void setDetectMoves(boolean detectMoves) {
+    this.detectMoves = detectMoves;
+  }
+
+  @AnyThread
+  boolean isDetectMoves() {
+    return detectMoves;
+  }
+
   /**
    * Prevents any ongoing diff from dispatching results. Returns true if there was an ongoing
    * diff to cancel, false otherwise.
@@ -77,6 +134,24 @@ class AsyncEpoxyDiffer {
     return generationTracker.finishMaxGeneration();
   }
 
+  /**
+   * @return The number of diffs that were aborted before they finished because a newer list was
+   * submitted, or the diff was cancelled.
+   */
+  @AnyThread
+  public int getAbortedDiffCount() {
+    return abortedDiffCount.get();
+  }
+
+  /**
+   * @return The number of submitted lists that were never diffed because a newer list was
+   * submitted before their diff started.
+   */
+  @AnyThread
+  public synchronized int getConflatedSubmissionCount() {
+    return conflatedSubmissionCount;
+  }
+
   /**
    * @return True if a diff operation is in progress.
    */
@@ -97,7 +172,32 @@ class AsyncEpoxyDiffer {
     // We need to make sure that generation changes and list updates are synchronized
     final boolean interruptedDiff = cancelDiff();
     int generation = generationTracker.incrementAndGetNextScheduled();
-    tryLatchList(newList, generation);
+    // This is called on the main thread, so the index is built when it is first needed
+    tryLatchList(newList, generation, indexFor(newList, false));
+    return interruptedDiff;
+  }
+
+  /**
+   * Move an item in the current list without diffing, and discard the result of any diff in
+   * progress. The previous list is not changed, since other threads may be reading it. Instead a
+   * new list is set that views the previous one with the item moved, so dragging an item doesn't
+   * copy the list or rebuild the id index on every swap. See {@link MovedModelList}.
+   *
+   * @return True if a diff in progress was interrupted.
+   */
+  @UiThread
+  synchronized boolean moveItem(int fromPosition, int toPosition) {
+    final boolean interruptedDiff = cancelDiff();
+
+    List<? extends EpoxyModel<?>> currentList = list;
+    MovedModelList movedList = MovedModelList.move(
+        currentList != null ? currentList : Collections.<EpoxyModel<?>>emptyList(),
+        fromPosition, toPosition);
+    list = movedList;
+    // The moved list is already immutable
+    readOnlyList = movedList;
+    idIndex = ModelIdIndex.forMove(idIndex, movedList);
+
     return interruptedDiff;
   }
 
@@ -110,6 +210,9 @@ class AsyncEpoxyDiffer {
    * The diff computation will be done on the thread given by the handler in the constructor.
    * When the diff is done it will be applied (dispatched to the result callback),
    * and the new List will be swapped in.
+   * <p>
+   * If lists are submitted faster than they can be diffed only the newest list is diffed, the
+   * others are dropped without being diffed.
    */
   @AnyThread
   @SuppressWarnings("WeakerAccess")
@@ -146,15 +249,136 @@ class AsyncEpoxyDiffer {
       return;
     }
 
-    final DiffCallback wrappedCallback = new DiffCallback(previousList, newList, diffCallback);
+    synchronized (this) {
+      // Only the newest list needs to be diffed, so if a diff is already scheduled the list it
+      // would diff is replaced instead of scheduling another diff. Submissions can race, so an
+      // older generation never replaces a newer one.
+      if (pendingList != null) {
+        conflatedSubmissionCount++;
+        if (runGeneration < pendingGeneration) {
+          return;
+        }
+      }
 
-    executor.execute(new Runnable() {
-      @Override
-      public void run() {
-        DiffUtil.DiffResult result = DiffUtil.calculateDiff(wrappedCallback);
-        onRunCompleted(runGeneration, newList, DiffResult.diff(previousList, newList, result));
+      pendingList = newList;
+      pendingGeneration = runGeneration;
+
+      if (isPendingDiffScheduled) {
+        return;
       }
-    });
+      isPendingDiffScheduled = true;
+    }
+
+    executor.execute(diffPendingListRunnable);
+  }
+
+  private final Runnable diffPendingListRunnable = new Runnable() {
+    @Override
+    public void run() {
+      diffPendingList();
+    }
+  };
+
+  /**
+   * Diffs the most recently submitted list against the last latched list. This runs on the
+   * diffing thread.
+   */
+  private void diffPendingList() {
+    final List<? extends EpoxyModel<?>> newList;
+    final int runGeneration;
+    final List<? extends EpoxyModel<?>> previousList;
+
+    synchronized (this) {
+      newList = pendingList;
+      runGeneration = pendingGeneration;
+      pendingList = null;
+      isPendingDiffScheduled = false;
+      // No older generation can be latched once this generation was scheduled, so this is the
+      // list that will be replaced if the diff result is latched.
+      previousList = list;
+    }
+
+    if (newList == null || generationTracker.isStale(runGeneration)) {
+      // A newer list was submitted without needing a diff, or the diff was cancelled
+      return;
+    }
+
+    if (previousList == null || previousList.isEmpty()) {
+      onRunCompleted(runGeneration, newList, DiffResult.inserted(newList));
+      return;
+    }
+
+    ItemCallback<EpoxyModel<?>> itemCallback =
+        new CancellableItemCallback(diffCallback, generationTracker, runGeneration);
+    EpoxyDiffStrategy diffStrategy = this.diffStrategy;
+
+    long startNs = System.nanoTime();
+    boolean traced = EpoxyTracing.beginSection("Epoxy calculateDiff");
+    DiffResult result;
+    try {
+      if (diffStrategy != null) {
+        RecordedListUpdates updates = new RecordedListUpdates();
+        diffStrategy.calculateDiff(previousList, newList, itemCallback, updates);
+        result = DiffResult.recorded(previousList, newList, updates);
+      } else {
+        result = calculateDiff(previousList, newList, itemCallback, detectMoves);
+      }
+    } catch (DiffAbortedException e) {
+      // A newer list was submitted, which will be diffed instead. The result of this diff
+      // would be discarded anyway.
+      abortedDiffCount.incrementAndGet();
+      return;
+    } finally {
+      EpoxyTracing.endSection(traced);
+    }
+    result.diffDurationNs = System.nanoTime() - startNs;
+    onRunCompleted(runGeneration, newList, result);
+  }
+
+  /**
+   * Most model rebuilds only change a few items, so the unchanged items at the start and end of
+   * both lists are skipped and the full diff is only run on the window of items between them.
+   * The offset of that window is stored in the result so updates are dispatched at the
+   * correct positions.
+   */
+  private static DiffResult calculateDiff(
+      @NonNull List<? extends EpoxyModel<?>> previousList,
+      @NonNull List<? extends EpoxyModel<?>> newList,
+      @NonNull ItemCallback<EpoxyModel<?>> diffCallback,
+      boolean detectMoves
+  ) {
+    int oldSize = previousList.size();
+    int newSize = newList.size();
+    int maxTrim = Math.min(oldSize, newSize);
+
+    int prefix = 0;
+    while (prefix < maxTrim
+        && isUnchanged(previousList.get(prefix), newList.get(prefix), diffCallback)) {
+      prefix++;
+    }
+
+    int suffix = 0;
+    while (suffix < maxTrim - prefix
+        && isUnchanged(previousList.get(oldSize - 1 - suffix), newList.get(newSize - 1 - suffix),
+        diffCallback)) {
+      suffix++;
+    }
+
+    DiffCallback wrappedCallback = new DiffCallback(
+        previousList, prefix, oldSize - suffix,
+        newList, prefix, newSize - suffix,
+        diffCallback
+    );
+
+    DiffUtil.DiffResult result = DiffUtil.calculateDiff(wrappedCallback, detectMoves);
+    return DiffResult.diff(previousList, newList, result, prefix);
+  }
+
+  private static boolean isUnchanged(EpoxyModel<?> oldItem, EpoxyModel<?> newItem,
+      ItemCallback<EpoxyModel<?>> diffCallback) {
+    return oldItem == newItem
+        || (diffCallback.areItemsTheSame(oldItem, newItem)
+        && diffCallback.areContentsTheSame(oldItem, newItem));
   }
 
   private void onRunCompleted(
@@ -162,13 +386,15 @@ class AsyncEpoxyDiffer {
       @Nullable final List<? extends EpoxyModel<?>> newList,
       @Nullable final DiffResult result
   ) {
+    // The index is built here, off the main thread if the list was, unless it would be discarded
+    final ModelIdIndex newIndex = indexFor(newList, !generationTracker.isStale(runGeneration));
 
     // We use an asynchronous handler so that the Runnable can be posted directly back to the main
     // thread without waiting on view invalidation synchronization.
     MainThreadExecutor.ASYNC_INSTANCE.execute(new Runnable() {
       @Override
       public void run() {
-        final boolean dispatchResult = tryLatchList(newList, runGeneration);
+        final boolean dispatchResult = tryLatchList(newList, runGeneration, newIndex);
         if (result != null && dispatchResult) {
           resultCallback.onResult(result);
         }
@@ -184,9 +410,10 @@ class AsyncEpoxyDiffer {
    */
   @AnyThread
   private synchronized boolean tryLatchList(@Nullable List<? extends EpoxyModel<?>> newList,
-      int runGeneration) {
+      int runGeneration, @NonNull ModelIdIndex newIndex) {
     if (generationTracker.finishGeneration(runGeneration)) {
       list = newList;
+      idIndex = newIndex;
 
       if (newList == null) {
         readOnlyList = Collections.emptyList();
@@ -200,6 +427,17 @@ class AsyncEpoxyDiffer {
     return false;
   }
 
+  @NonNull
+  private ModelIdIndex indexFor(@Nullable List<? extends EpoxyModel<?>> newList,
+      boolean buildNow) {
+    if (newList == null) {
+      return ModelIdIndex.EMPTY;
+    }
+
+    ModelIdIndex currentIndex = idIndex;
+    return currentIndex.isFor(newList) ? currentIndex : new ModelIdIndex(newList, buildNow);
+  }
+
   /**
    * The concept of a "generation" is used to associate a diff result with a point in time when
    * it was created. This allows us to handle list updates concurrently, and ignore outdated diffs.
@@ -231,6 +469,15 @@ class AsyncEpoxyDiffer {
       return maxScheduledGeneration > maxFinishedGeneration;
     }
 
+    /**
+     * True if the given generation can no longer be latched, because a newer generation was
+     * scheduled or the generation was finished or cancelled. This is not synchronized so it can be
+     * called frequently while diffing, and may not immediately reflect a concurrent change.
+     */
+    boolean isStale(int runGeneration) {
+      return maxScheduledGeneration != runGeneration || maxFinishedGeneration >= runGeneration;
+    }
+
     synchronized boolean finishGeneration(int runGeneration) {
       boolean isLatestGeneration =
           maxScheduledGeneration == runGeneration && runGeneration > maxFinishedGeneration;
@@ -243,42 +490,120 @@ class AsyncEpoxyDiffer {
     }
   }
 
-  private static class DiffCallback extends DiffUtil.Callback {
+  /** Thrown on the diffing thread to abort a diff whose result is no longer needed. */
+  private static class DiffAbortedException extends RuntimeException {
+    static final DiffAbortedException INSTANCE = new DiffAbortedException();
+
+    private DiffAbortedException() {
+      super("Diff aborted");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      // The exception is only used for control flow, so the stack trace is never needed
+      return this;
+    }
+  }
+
+  /**
+   * Wraps the item callback to periodically check whether the generation being diffed is stale,
+   * so a diff can be aborted early instead of finishing only to have its result discarded. Item
+   * comparisons are where diffing spends its time, so checking there bounds the wasted work.
+   */
+  private static class CancellableItemCallback extends ItemCallback<EpoxyModel<?>> {
+    /** Must be a power of two. */
+    private static final int COMPARISONS_PER_CHECK = 128;
+
+    private final ItemCallback<EpoxyModel<?>> diffCallback;
+    private final GenerationTracker generationTracker;
+    private final int runGeneration;
+    private int comparisonCount;
+
+    CancellableItemCallback(ItemCallback<EpoxyModel<?>> diffCallback,
+        GenerationTracker generationTracker, int runGeneration) {
+      this.diffCallback = diffCallback;
+      this.generationTracker = generationTracker;
+      this.runGeneration = runGeneration;
+    }
+
+    private void abortIfStale() {
+      if ((++comparisonCount & (COMPARISONS_PER_CHECK - 1)) == 0
+          && generationTracker.isStale(runGeneration)) {
+        throw DiffAbortedException.INSTANCE;
+      }
+    }
+
+    @Override
+    public boolean areItemsTheSame(@NonNull EpoxyModel<?> oldItem,
+        @NonNull EpoxyModel<?> newItem) {
+      abortIfStale();
+      return diffCallback.areItemsTheSame(oldItem, newItem);
+    }
+
+    @Override
+    public boolean areContentsTheSame(@NonNull EpoxyModel<?> oldItem,
+        @NonNull EpoxyModel<?> newItem) {
+      abortIfStale();
+      return diffCallback.areContentsTheSame(oldItem, newItem);
+    }
+
+    @Nullable
+    @Override
+    public Object getChangePayload(@NonNull EpoxyModel<?> oldItem,
+        @NonNull EpoxyModel<?> newItem) {
+      return diffCallback.getChangePayload(oldItem, newItem);
+    }
+  }
+
+  /**
+   * Diffs the window of items between the given start (inclusive) and end (exclusive) positions
+   * of each list. Positions given to and by DiffUtil are relative to the start of the windows.
+   */
+  static class DiffCallback extends DiffUtil.Callback {
 
     final List<? extends EpoxyModel<?>> oldList;
     final List<? extends EpoxyModel<?>> newList;
+    private final int oldStart;
+    private final int oldEnd;
+    private final int newStart;
+    private final int newEnd;
     private final ItemCallback<EpoxyModel<?>> diffCallback;
 
-    DiffCallback(List<? extends EpoxyModel<?>> oldList, List<? extends EpoxyModel<?>> newList,
+    DiffCallback(List<? extends EpoxyModel<?>> oldList, int oldStart, int oldEnd,
+        List<? extends EpoxyModel<?>> newList, int newStart, int newEnd,
         ItemCallback<EpoxyModel<?>> diffCallback) {
       this.oldList = oldList;
+      this.oldStart = oldStart;
+      this.oldEnd = oldEnd;
       this.newList = newList;
+      this.newStart = newStart;
+      this.newEnd = newEnd;
       this.diffCallback = diffCallback;
     }
 
     @Override
     public int getOldListSize() {
-      return oldList.size();
+      return oldEnd - oldStart;
     }
 
     @Override
     public int getNewListSize() {
-      return newList.size();
+      return newEnd - newStart;
     }
 
     @Override
     public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
       return diffCallback.areItemsTheSame(
-          oldList.get(oldItemPosition),
-          newList.get(newItemPosition)
+          oldList.get(oldStart + oldItemPosition),
+          newList.get(newStart + newItemPosition)
       );
     }
 
     @Override
     public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
       return diffCallback.areContentsTheSame(
-          oldList.get(oldItemPosition),
-          newList.get(newItemPosition)
+          oldList.get(oldStart + oldItemPosition),
+          newList.get(newStart + newItemPosition)
       );
     }
 
@@ -286,8 +611,8 @@ class AsyncEpoxyDiffer {
     @Override
     public Object getChangePayload(int oldItemPosition, int newItemPosition) {
       return diffCallback.getChangePayload(
-          oldList.get(oldItemPosition),
-          newList.get(newItemPosition)
+          oldList.get(oldStart + oldItemPosition),
+          newList.get(newStart + newItemPosition)
       );
     }
   }
@@ -4,6 +4,7 @@ import android.os.Bundle;
 import android.view.View;
 import android.view.ViewGroup;
 
+import com.airbnb.epoxy.ModelLatencyProfiler.Operation;
 import com.airbnb.epoxy.stickyheader.StickyHeaderCallbacks;
 
 import org.jetbrains.annotations.NotNull;
@@ -32,6 +33,7 @@ public abstract class BaseEpoxyAdapter
    */
   private final BoundViewHolders boundViewHolders = new BoundViewHolders();
   private ViewHolderState viewHolderState = new ViewHolderState();
+  @Nullable private ModelLatencyProfiler latencyProfiler;
 
   private final SpanSizeLookup spanSizeLookup = new SpanSizeLookup() {
 
@@ -69,6 +71,23 @@ public abstract class BaseEpoxyAdapter
 
   }
 
+  /**
+   * Set a profiler to record how long view holders of each model class take to create, bind and
+   * unbind, or null to stop recording. Nothing is timed while no profiler is set. For an {@link
+   * EpoxyController} set it on {@link EpoxyController#getAdapter()}.
+   * <p>
+   * This is separate from {@link EpoxyController#setMetricsListener(EpoxyMetricsListener)}, so
+   * both can be used at the same time.
+   */
+  public void setModelLatencyProfiler(@Nullable ModelLatencyProfiler latencyProfiler) {
+    this.latencyProfiler = latencyProfiler;
+  }
+
+  @Nullable
+  public ModelLatencyProfiler getModelLatencyProfiler() {
+    return latencyProfiler;
+  }
+
   @Override
   public int getItemCount() {
     return getCurrentModels().size();
@@ -96,9 +115,25 @@ public abstract class BaseEpoxyAdapter
 
   @Override
   public EpoxyViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
-    EpoxyModel<?> model = viewTypeManager.getModelForViewType(this, viewType);
-    View view = model.buildView(parent);
-    return new EpoxyViewHolder(parent, view, model.shouldSaveViewState());
+    EpoxyModel<?> model = getModelForViewType(viewType);
+    ModelLatencyProfiler profiler = latencyProfiler;
+    long startNs = profiler != null ? System.nanoTime() : 0;
+    boolean traced = EpoxyTracing.beginSection("Epoxy onCreateViewHolder ", model.getClass());
+    try {
+      View view = model.buildView(parent);
+      EpoxyViewHolder holder = new EpoxyViewHolder(parent, view, model.shouldSaveViewState());
+      if (profiler != null) {
+        profiler.record(model.getClass(), Operation.CREATE, System.nanoTime() - startNs);
+      }
+      return holder;
+    } finally {
+      EpoxyTracing.endSection(traced);
+    }
+  }
+
+  /** Returns a model with the given view type, which is used to create views of that type. */
+  EpoxyModel<?> getModelForViewType(int viewType) {
+    return viewTypeManager.getModelForViewType(this, viewType);
   }
 
   @Override
@@ -109,7 +144,23 @@ public abstract class BaseEpoxyAdapter
   @Override
   public void onBindViewHolder(EpoxyViewHolder holder, int position, List<Object> payloads) {
     EpoxyModel<?> modelToShow = getModelForPosition(position);
+    ModelLatencyProfiler profiler = latencyProfiler;
+    long startNs = profiler != null ? System.nanoTime() : 0;
+    boolean traced = EpoxyTracing.beginSection("Epoxy onBindViewHolder ", modelToShow.getClass());
+    try {
+      bindViewHolder(holder, modelToShow, position, payloads);
+      if (profiler != null) {
+        profiler.record(modelToShow.getClass(),
+            holder.boundWithPreviousModel ? Operation.DIFF_BIND : Operation.FULL_BIND,
+            System.nanoTime() - startNs);
+      }
+    } finally {
+      EpoxyTracing.endSection(traced);
+    }
+  }
 
+  private void bindViewHolder(EpoxyViewHolder holder, EpoxyModel<?> modelToShow, int position,
+      List<Object> payloads) {
     EpoxyModel<?> previouslyBoundModel = null;
     if (diffPayloadsEnabled()) {
       previouslyBoundModel = DiffPayload.getModelFromPayload(payloads, getItemId(position));
@@ -174,12 +225,19 @@ public abstract class BaseEpoxyAdapter
 
   @Override
   public void onViewRecycled(EpoxyViewHolder holder) {
+    ModelLatencyProfiler profiler = latencyProfiler;
+    long startNs = profiler != null ? System.nanoTime() : 0;
+
     viewHolderState.save(holder);
     boundViewHolders.remove(holder);
 
     EpoxyModel<?> model = holder.getModel();
     holder.unbind();
     onModelUnbound(holder, model);
+
+    if (profiler != null) {
+      profiler.record(model.getClass(), Operation.UNBIND, System.nanoTime() - startNs);
+    }
   }
 
   @CallSuper
@@ -220,6 +278,32 @@ public abstract class BaseEpoxyAdapter
     ((EpoxyModel) holder.getModel()).onViewDetachedFromWindow(holder.objectToBind());
   }
 
+  /**
+   * Limit how many views have their state saved, for models that return true from {@link
+   * EpoxyModel#shouldSaveViewState()}. When the limit is exceeded the states of the least recently
+   * bound views are dropped, so that long lists don't keep the state of every view ever shown.
+   * There is no limit by default.
+   */
+  public void setMaxSavedViewStates(int maxSavedViewStates) {
+    if (maxSavedViewStates < 1) {
+      throw new IllegalArgumentException("The maximum must be at least 1");
+    }
+    viewHolderState.setLimits(maxSavedViewStates, viewHolderState.getMaxParcelBytes());
+  }
+
+  /**
+   * Limit the size, in bytes, of the view state that {@link #onSaveInstanceState(Bundle)} adds to
+   * the bundle once it is parcelled. States of the most recently bound views are kept, and older
+   * ones are dropped once the limit is reached. This helps avoid a TransactionTooLargeException
+   * when the state of many views was saved. There is no limit by default.
+   */
+  public void setMaxSavedViewStateBytes(int maxBytes) {
+    if (maxBytes < 0) {
+      throw new IllegalArgumentException("The maximum can't be negative");
+    }
+    viewHolderState.setLimits(viewHolderState.getMaxSize(), maxBytes);
+  }
+
   public void onSaveInstanceState(Bundle outState) {
     // Save the state of currently bound views first so they are included. Views that were
     // scrolled off and unbound will already have had
@@ -245,11 +329,13 @@ public abstract class BaseEpoxyAdapter
     }
 
     if (inState != null) {
+      ViewHolderState previousState = viewHolderState;
       viewHolderState = inState.getParcelable(SAVED_STATE_ARG_VIEW_HOLDERS);
       if (viewHolderState == null) {
         throw new IllegalStateException(
             "Tried to restore instance state, but onSaveInstanceState was never called.");
       }
+      viewHolderState.setLimits(previousState.getMaxSize(), previousState.getMaxParcelBytes());
     }
   }
 
@@ -2,10 +2,8 @@
 package com.airbnb.epoxy;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 
 import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.RecyclerView;
@@ -15,11 +13,20 @@ import androidx.recyclerview.widget.RecyclerView;
  */
 class DiffHelper {
   private ArrayList<ModelState> oldStateList = new ArrayList<>();
-  // Using a HashMap instead of a LongSparseArray to
-  // have faster look up times at the expense of memory
-  private Map<Long, ModelState> oldStateMap = new HashMap<>();
+  // Using a primitive keyed hash map instead of a LongSparseArray to have faster look up times at
+  // the expense of memory, and instead of a HashMap to avoid boxing ids and allocating entries.
+  // The maps are swapped instead of recreated on each diff so their backing arrays are reused.
+  private LongModelStateMap oldStateMap = new LongModelStateMap();
   private ArrayList<ModelState> currentStateList = new ArrayList<>();
-  private Map<Long, ModelState> currentStateMap = new HashMap<>();
+  private LongModelStateMap currentStateMap = new LongModelStateMap();
+  /**
+   * States that are no longer part of either list and can be reused. Lists are rebuilt on every
+   * diff, so recycling the states of the old list means a steady state diff doesn't allocate a new
+   * state for each model.
+   */
+  private final ArrayList<ModelState> recycledStates = new ArrayList<>();
+  /** States created by {@link ModelState#pairWithSelf(ModelState)}, recycled after the diff. */
+  private final ArrayList<ModelState> selfPairedStates = new ArrayList<>();
   private final BaseEpoxyAdapter adapter;
   private final boolean immutableModels;
 
@@ -83,6 +90,7 @@ class DiffHelper {
           currentStateList.subList(positionStart, positionStart + itemCount);
       for (ModelState model : modelsToRemove) {
         currentStateMap.remove(model.id);
+        recycleState(model);
       }
       modelsToRemove.clear();
 
@@ -195,8 +203,31 @@ class DiffHelper {
   }
 
   private void resetOldState() {
+    // States in the current list may still reference these through their pair, but pairs are
+    // cleared before they are read again in the next diff.
+    recycleStates(oldStateList);
+    recycleStates(selfPairedStates);
     oldStateList.clear();
     oldStateMap.clear();
+    selfPairedStates.clear();
+  }
+
+  private ModelState obtainState() {
+    int size = recycledStates.size();
+    return size == 0 ? new ModelState() : recycledStates.remove(size - 1);
+  }
+
+  private void recycleState(ModelState state) {
+    state.recycle();
+    recycledStates.add(state);
+  }
+
+  private void recycleStates(List<ModelState> states) {
+    int size = states.size();
+    recycledStates.ensureCapacity(recycledStates.size() + size);
+    for (int i = 0; i < size; i++) {
+      recycleState(states.get(i));
+    }
   }
 
   private void prepareStateForDiff() {
@@ -211,7 +242,7 @@ class DiffHelper {
     oldStateList = currentStateList;
     currentStateList = tempList;
 
-    Map<Long, ModelState> tempMap = oldStateMap;
+    LongModelStateMap tempMap = oldStateMap;
     oldStateMap = currentStateMap;
     currentStateMap = tempMap;
 
@@ -223,6 +254,7 @@ class DiffHelper {
 
     int modelCount = adapter.getCurrentModels().size();
     currentStateList.ensureCapacity(modelCount);
+    currentStateMap.ensureCapacity(modelCount);
 
     for (int i = 0; i < modelCount; i++) {
       currentStateList.add(createStateForPosition(i));
@@ -232,7 +264,8 @@ class DiffHelper {
   private ModelState createStateForPosition(int position) {
     EpoxyModel<?> model = adapter.getCurrentModels().get(position);
     model.addedToAdapter = true;
-    ModelState state = ModelState.build(model, position, immutableModels);
+    ModelState state = obtainState();
+    state.set(model, position, immutableModels);
 
     ModelState previousValue = currentStateMap.put(state.id, state);
     if (previousValue != null) {
@@ -347,7 +380,9 @@ class DiffHelper {
           // into account. The old list doesn't have this item inserted into it
           // (for optimization purposes), but we can create a pair for this item to
           // track its position in the old list and move it back to its final position if necessary
-          newItem.pairWithSelf();
+          ModelState selfPair = obtainState();
+          newItem.pairWithSelf(selfPair);
+          selfPairedStates.add(selfPair);
         }
       }
 
@@ -16,8 +16,11 @@ import androidx.collection.LongSparseArray;
 public class DiffPayload {
   private final EpoxyModel<?> singleModel;
   private final LongSparseArray<EpoxyModel<?>> modelsById;
+  /** The change mask of the single model, see {@link EpoxyModel#computeChangeMask(EpoxyModel)}. */
+  private final long changeMask;
 
   DiffPayload(List<? extends EpoxyModel<?>> models) {
+    changeMask = EpoxyModel.CHANGE_MASK_ALL;
     if (models.isEmpty()) {
       throw new IllegalStateException("Models must not be empty");
     }
@@ -41,6 +44,16 @@ public class DiffPayload {
     this(Collections.singletonList(changedItem));
   }
 
+  /**
+   * @param changeMask The attributes that changed from the given item to the model that replaced
+   *                   it, see {@link EpoxyModel#computeChangeMask(EpoxyModel)}.
+   */
+  public DiffPayload(EpoxyModel<?> changedItem, long changeMask) {
+    singleModel = changedItem;
+    modelsById = null;
+    this.changeMask = changeMask;
+  }
+
   /**
    * Looks through the payloads list and returns the first model found with the given model id. This
    * assumes that the payloads list will only contain objects of type {@link DiffPayload}, and will
@@ -70,6 +83,32 @@ public class DiffPayload {
     return null;
   }
 
+  /**
+   * Combines the change masks of all payloads for the given model id. If the model was changed
+   * several times before it was rebound, every attribute that changed in any of those updates is
+   * included. Returns {@link EpoxyModel#CHANGE_MASK_ALL} if any payload for the model doesn't have
+   * a change mask.
+   */
+  public static long getChangeMaskFromPayload(List<Object> payloads, long modelId) {
+    long combinedMask = 0;
+    boolean found = false;
+
+    for (Object payload : payloads) {
+      DiffPayload diffPayload = (DiffPayload) payload;
+
+      if (diffPayload.singleModel != null) {
+        if (diffPayload.singleModel.id() == modelId) {
+          combinedMask |= diffPayload.changeMask;
+          found = true;
+        }
+      } else if (diffPayload.modelsById.get(modelId) != null) {
+        return EpoxyModel.CHANGE_MASK_ALL;
+      }
+    }
+
+    return found ? combinedMask : EpoxyModel.CHANGE_MASK_ALL;
+  }
+
   @VisibleForTesting
   boolean equalsForTesting(DiffPayload that) {
     if (singleModel != null) {
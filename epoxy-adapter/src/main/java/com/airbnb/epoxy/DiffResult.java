@@ -20,50 +20,83 @@ public class DiffResult {
   /**
    * If this is non null it means the full differ ran and the result is contained
    * in this object. If it is null, it means that either the old list or the new list was empty, so
-   * we can simply add all or clear all items and skipped running the full diffing.
+   * we can simply add all or clear all items and skipped running the full diffing, or that a
+   * custom diff strategy ran instead (see {@link #recordedUpdates}).
    */
   @Nullable final DiffUtil.DiffResult differResult;
+  /**
+   * The number of leading items that were unchanged and skipped by the differ. Positions in
+   * {@link #differResult} are relative to this offset.
+   */
+  final int differOffset;
+  /**
+   * If this is non null it means a custom {@link EpoxyDiffStrategy} ran instead of the default
+   * differ, and the updates it reported are recorded in this object.
+   */
+  @Nullable final RecordedListUpdates recordedUpdates;
+  /** How long the diff took on the diffing thread, or 0 if no diff was run. */
+  long diffDurationNs;
 
   /** No changes were made to the models. */
   static DiffResult noOp(@Nullable List<? extends EpoxyModel<?>> models) {
     if (models == null) {
       models = Collections.emptyList();
     }
-    return new DiffResult(models, models, null);
+    return new DiffResult(models, models, null, 0, null);
   }
 
   /** The previous list was empty and the given non empty list was inserted. */
   static DiffResult inserted(@NonNull List<? extends EpoxyModel<?>> newModels) {
     //noinspection unchecked
-    return new DiffResult(Collections.EMPTY_LIST, newModels, null);
+    return new DiffResult(Collections.EMPTY_LIST, newModels, null, 0, null);
   }
 
   /** The previous list was non empty and the new list is empty. */
   static DiffResult clear(@NonNull List<? extends EpoxyModel<?>> previousModels) {
     //noinspection unchecked
-    return new DiffResult(previousModels, Collections.EMPTY_LIST, null);
+    return new DiffResult(previousModels, Collections.EMPTY_LIST, null, 0, null);
   }
 
   /**
    * The previous and new models are both non empty and a full differ pass was run on them.
    * There may be no changes, however.
+   *
+   * @param differOffset The number of unchanged leading items that were excluded from the
+   *                     differ pass.
    */
   static DiffResult diff(
       @NonNull List<? extends EpoxyModel<?>> previousModels,
       @NonNull List<? extends EpoxyModel<?>> newModels,
-      @NonNull DiffUtil.DiffResult differResult
+      @NonNull DiffUtil.DiffResult differResult,
+      int differOffset
   ) {
-    return new DiffResult(previousModels, newModels, differResult);
+    return new DiffResult(previousModels, newModels, differResult, differOffset, null);
+  }
+
+  /**
+   * The previous and new models are both non empty and a custom {@link EpoxyDiffStrategy} was run
+   * on them. There may be no changes, however.
+   */
+  static DiffResult recorded(
+      @NonNull List<? extends EpoxyModel<?>> previousModels,
+      @NonNull List<? extends EpoxyModel<?>> newModels,
+      @NonNull RecordedListUpdates recordedUpdates
+  ) {
+    return new DiffResult(previousModels, newModels, null, 0, recordedUpdates);
   }
 
   private DiffResult(
       @NonNull List<? extends EpoxyModel<?>> previousModels,
       @NonNull List<? extends EpoxyModel<?>> newModels,
-      @Nullable DiffUtil.DiffResult differResult
+      @Nullable DiffUtil.DiffResult differResult,
+      int differOffset,
+      @Nullable RecordedListUpdates recordedUpdates
   ) {
     this.previousModels = previousModels;
     this.newModels = newModels;
     this.differResult = differResult;
+    this.differOffset = differOffset;
+    this.recordedUpdates = recordedUpdates;
   }
 
   public void dispatchTo(Adapter adapter) {
@@ -71,8 +104,20 @@ public class DiffResult {
   }
 
   public void dispatchTo(ListUpdateCallback callback) {
+    boolean traced = EpoxyTracing.beginSection("Epoxy dispatchDiffResult");
+    try {
+      dispatchUpdatesTo(callback);
+    } finally {
+      EpoxyTracing.endSection(traced);
+    }
+  }
+
+  private void dispatchUpdatesTo(ListUpdateCallback callback) {
     if (differResult != null) {
-      differResult.dispatchUpdatesTo(callback);
+      differResult.dispatchUpdatesTo(
+          differOffset == 0 ? callback : new OffsetListUpdateCallback(callback, differOffset));
+    } else if (recordedUpdates != null) {
+      recordedUpdates.dispatchTo(callback);
     } else if (newModels.isEmpty() && !previousModels.isEmpty()) {
       callback.onRemoved(0, previousModels.size());
     } else if (!newModels.isEmpty() && previousModels.isEmpty()) {
@@ -81,4 +126,35 @@ public class DiffResult {
 
     // Else nothing changed!
   }
+
+  /** Shifts all updates by a fixed offset before passing them on to the wrapped callback. */
+  private static class OffsetListUpdateCallback implements ListUpdateCallback {
+    private final ListUpdateCallback callback;
+    private final int offset;
+
+    OffsetListUpdateCallback(ListUpdateCallback callback, int offset) {
+      this.callback = callback;
+      this.offset = offset;
+    }
+
+    @Override
+    public void onInserted(int position, int count) {
+      callback.onInserted(position + offset, count);
+    }
+
+    @Override
+    public void onRemoved(int position, int count) {
+      callback.onRemoved(position + offset, count);
+    }
+
+    @Override
+    public void onMoved(int fromPosition, int toPosition) {
+      callback.onMoved(fromPosition + offset, toPosition + offset);
+    }
+
+    @Override
+    public void onChanged(int position, int count, @Nullable Object payload) {
+      callback.onChanged(position + offset, count, payload);
+    }
+  }
 }
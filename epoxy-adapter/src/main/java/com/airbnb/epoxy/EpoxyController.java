@@ -1,7 +1,10 @@
 package com.airbnb.epoxy;
 
+import android.os.Build;
 import android.os.Bundle;
 import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
 import android.view.View;
 
 import com.airbnb.epoxy.stickyheader.StickyHeaderCallbacks;
@@ -11,11 +14,10 @@ import org.jetbrains.annotations.NotNull;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
-import java.util.ListIterator;
-import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
@@ -55,14 +57,20 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
    */
   private static final int DELAY_TO_CHECK_ADAPTER_COUNT_MS = 3000;
   private static final Timer NO_OP_TIMER = new NoOpTimer();
+  private static final int MIN_DUPLICATE_POSITIONS_CAPACITY = 4;
+  /** Keeps the exception message for a bad list with many duplicates to a reasonable size. */
+  private static final int MAX_DESCRIBED_DUPLICATES = 10;
 
   public static Handler defaultModelBuildingHandler = MainThreadExecutor.INSTANCE.handler;
   public static Handler defaultDiffingHandler = MainThreadExecutor.INSTANCE.handler;
   private static boolean filterDuplicatesDefault = false;
   private static boolean globalDebugLoggingEnabled = false;
+  @Nullable private static EpoxyMetricsListener globalMetricsListener = null;
 
   private final EpoxyControllerAdapter adapter;
   private EpoxyDiffLogger debugObserver;
+  /** Created when first requested. Only used on the main thread. */
+  @Nullable private ViewHolderPrewarmer viewHolderPrewarmer;
   private int recyclerViewAttachCount = 0;
   private final Handler modelBuildHandler;
 
@@ -74,6 +82,8 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
 
   // Volatile because -> write only on main thread, read from builder thread
   private volatile boolean filterDuplicates = filterDuplicatesDefault;
+  // Volatile because -> write on any thread, read from the builder and main threads
+  @Nullable private volatile EpoxyMetricsListener metricsListener = globalMetricsListener;
   /**
    * This is used to track whether we are currently building models. If it is non null it means
    * a thread is in the building models method. We store the thread so we can know which one
@@ -88,6 +98,10 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
    * Volatile because -> written from the build models thread, read from the main thread.
    */
   private volatile boolean hasBuiltModelsEver;
+  /** Set on the main thread while an item is dragged with {@link EpoxyTouchHelper}. */
+  private boolean isDragInProgress;
+  /** True if models were moved during the current drag, so they need to be rebuilt after it. */
+  private boolean modelsMovedDuringDrag;
 
   //////////////////////////////////////////////////////////////////////////////////////////
 
@@ -110,7 +124,15 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
   }
 
   public EpoxyController(Handler modelBuildingHandler, Handler diffingHandler) {
-    adapter = new EpoxyControllerAdapter(this, diffingHandler);
+    this(modelBuildingHandler, new HandlerExecutor(diffingHandler));
+  }
+
+  /**
+   * @param diffingExecutor Diffs are run on this executor instead of on a handler. Results are
+   *                        still dispatched to the adapter on the main thread.
+   */
+  public EpoxyController(Handler modelBuildingHandler, Executor diffingExecutor) {
+    adapter = new EpoxyControllerAdapter(this, diffingExecutor);
     modelBuildHandler = modelBuildingHandler;
     setDebugLoggingEnabled(globalDebugLoggingEnabled);
   }
@@ -125,6 +147,14 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
   @RequestedModelBuildType private volatile int requestedModelBuildType =
       RequestedModelBuildType.NONE;
 
+  /**
+   * The number of build requests made since the last model build started. Guarded by this
+   * controller.
+   */
+  private int pendingModelBuildRequestCount;
+  /** Set if frame aligned model building is enabled. Guarded by this controller. */
+  @Nullable private FrameAlignedModelBuildScheduler frameAlignedModelBuildScheduler;
+
   @Retention(RetentionPolicy.SOURCE)
   @IntDef({RequestedModelBuildType.NONE,
       RequestedModelBuildType.NEXT_FRAME,
@@ -167,6 +197,39 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
     }
   }
 
+  /**
+   * Requests a model build the same way as {@link #requestModelBuild()}, but without going through
+   * {@link #requestModelBuild()} or {@link #requestDelayedModelBuild(int)}. This lets a subclass
+   * that overrides them tell its own requests apart, without keeping state across the call.
+   */
+  final void requestModelBuildWithoutOverrides() {
+    if (isBuildingModels()) {
+      throw new IllegalEpoxyUsage("Cannot call `requestModelBuild` from inside `buildModels`");
+    }
+
+    if (hasBuiltModelsEver) {
+      synchronized (this) {
+        postModelBuild(0);
+      }
+    } else {
+      buildModelsRunnable.run();
+    }
+  }
+
+  /**
+   * Builds models immediately on the calling thread, instead of posting the build to the model
+   * building handler. This is intended for subclasses that schedule model builds themselves, for
+   * example on a coroutine dispatcher. The subclass must make sure that builds never run
+   * concurrently.
+   */
+  protected final void buildModelsSynchronously() {
+    if (isBuildingModels()) {
+      throw new IllegalEpoxyUsage("Cannot build models from inside `buildModels`");
+    }
+
+    buildModelsRunnable.run();
+  }
+
   /**
    * Whether an update to models is currently pending. This can either be because
    * {@link #requestModelBuild()} was called, or because models are currently being built or diff
@@ -226,16 +289,76 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
           "Cannot call `requestDelayedModelBuild` from inside `buildModels`");
     }
 
+    postModelBuild(delayMs);
+  }
+
+  /** Must be called while synchronized on this. */
+  private void postModelBuild(int delayMs) {
+    int requestCount = pendingModelBuildRequestCount + 1;
     if (requestedModelBuildType == RequestedModelBuildType.DELAYED) {
       cancelPendingModelBuild();
     } else if (requestedModelBuildType == RequestedModelBuildType.NEXT_FRAME) {
+      pendingModelBuildRequestCount = requestCount;
       return;
     }
 
+    pendingModelBuildRequestCount = requestCount;
     requestedModelBuildType =
         delayMs == 0 ? RequestedModelBuildType.NEXT_FRAME : RequestedModelBuildType.DELAYED;
 
-    modelBuildHandler.postDelayed(buildModelsRunnable, delayMs);
+    if (delayMs == 0 && frameAlignedModelBuildScheduler != null) {
+      frameAlignedModelBuildScheduler.schedule();
+    } else {
+      modelBuildHandler.postDelayed(buildModelsRunnable, delayMs);
+    }
+  }
+
+  /**
+   * If enabled, calls to {@link #requestModelBuild()} are handled on the next frame instead of
+   * being posted to the model building handler right away. All requests made within one frame
+   * interval are then coalesced into a single model build and diff, even if they come from
+   * different data sources.
+   * <p>
+   * The build starts at the beginning of the frame. When models are built on the main thread their
+   * diff is dispatched before that frame is laid out, and when they are built in the background the
+   * build gets most of the frame interval to finish. Delayed requests from {@link
+   * #requestDelayedModelBuild(int)} are not affected.
+   * <p>
+   * Use {@link #onModelBuildRequestsCoalesced(int)} to see how many requests each build handled.
+   * <p>
+   * This must be called on the main thread. It has no effect before API 16, where requests are
+   * always posted to the model building handler.
+   */
+  public synchronized void setFrameAlignedModelBuildsEnabled(boolean enabled) {
+    if (Looper.myLooper() != Looper.getMainLooper()) {
+      throw new IllegalEpoxyUsage("Frame aligned model builds must be set on the main thread");
+    }
+
+    if (enabled == isFrameAlignedModelBuildsEnabled()
+        || Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN) {
+      return;
+    }
+
+    // A pending request is moved to the new scheduling mode
+    boolean hadPendingRequest = requestedModelBuildType == RequestedModelBuildType.NEXT_FRAME;
+    int requestCount = pendingModelBuildRequestCount;
+    cancelPendingModelBuild();
+
+    if (enabled) {
+      frameAlignedModelBuildScheduler =
+          new FrameAlignedModelBuildScheduler(modelBuildHandler, buildModelsRunnable);
+    } else {
+      frameAlignedModelBuildScheduler = null;
+    }
+
+    if (hadPendingRequest) {
+      requestDelayedModelBuild(0);
+      pendingModelBuildRequestCount = requestCount;
+    }
+  }
+
+  public synchronized boolean isFrameAlignedModelBuildsEnabled() {
+    return frameAlignedModelBuildScheduler != null;
   }
 
   /**
@@ -251,8 +374,12 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
     // is queued, but it isn't, and model building never happens - stuck forever.
     if (requestedModelBuildType != RequestedModelBuildType.NONE) {
       requestedModelBuildType = RequestedModelBuildType.NONE;
+      if (frameAlignedModelBuildScheduler != null) {
+        frameAlignedModelBuildScheduler.cancel();
+      }
       modelBuildHandler.removeCallbacks(buildModelsRunnable);
     }
+    pendingModelBuildRequestCount = 0;
   }
 
   private final Runnable buildModelsRunnable = new Runnable() {
@@ -263,12 +390,22 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
 
       // This is needed to reset the requestedModelBuildType back to NONE.
       // As soon as we do this another model build can be posted.
-      cancelPendingModelBuild();
+      int requestCount;
+      synchronized (EpoxyController.this) {
+        requestCount = pendingModelBuildRequestCount;
+        cancelPendingModelBuild();
+      }
+
+      if (requestCount > 1) {
+        onModelBuildRequestsCoalesced(requestCount);
+      }
 
       helper.resetAutoModels();
 
       modelsBeingBuilt = new ControllerModelList(getExpectedModelCount());
 
+      EpoxyMetricsListener metricsListener = EpoxyController.this.metricsListener;
+      long buildStartNs = metricsListener != null ? System.nanoTime() : 0;
       timer.start("Models built");
 
       // The user's implementation of buildModels is wrapped in a try/catch so that if it fails
@@ -277,6 +414,8 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
       // crash the app - in which case this controller would be in an invalid state and crash later
       // with confusing errors because "threadBuildingModels" and other properties are not
       // correctly set. This can happen particularly with Espresso testing.
+      boolean traced =
+          EpoxyTracing.beginSection("Epoxy buildModels ", EpoxyController.this.getClass());
       try {
         buildModels();
       } catch (Throwable throwable) {
@@ -286,13 +425,19 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
         threadBuildingModels = null;
         stagedModel = null;
         throw throwable;
+      } finally {
+        EpoxyTracing.endSection(traced);
       }
 
       addCurrentlyStagedModelIfExists();
       timer.stop();
+      if (metricsListener != null) {
+        metricsListener.onModelsBuilt(EpoxyController.this, System.nanoTime() - buildStartNs,
+            modelsBeingBuilt.size());
+      }
 
-      runInterceptors();
-      filterDuplicatesIfNeeded(modelsBeingBuilt);
+      runInterceptors(metricsListener);
+      filterDuplicatesIfNeeded(modelsBeingBuilt, metricsListener);
       modelsBeingBuilt.freeze();
 
       timer.start("Models diffed");
@@ -373,7 +518,7 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
     void onInterceptorsFinished(EpoxyController controller);
   }
 
-  private void runInterceptors() {
+  private void runInterceptors(@Nullable EpoxyMetricsListener metricsListener) {
     if (!interceptors.isEmpty()) {
       if (modelInterceptorCallbacks != null) {
         for (ModelInterceptorCallback callback : modelInterceptorCallbacks) {
@@ -381,13 +526,24 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
         }
       }
 
+      long startNs = metricsListener != null ? System.nanoTime() : 0;
       timer.start("Interceptors executed");
+      boolean traced = EpoxyTracing.beginSection("Epoxy runInterceptors ", getClass());
 
-      for (Interceptor interceptor : interceptors) {
-        interceptor.intercept(modelsBeingBuilt);
+      int interceptorCount = 0;
+      try {
+        for (Interceptor interceptor : interceptors) {
+          interceptor.intercept(modelsBeingBuilt);
+          interceptorCount++;
+        }
+      } finally {
+        EpoxyTracing.endSection(traced);
       }
 
       timer.stop();
+      if (metricsListener != null) {
+        metricsListener.onInterceptorsRun(this, System.nanoTime() - startNs, interceptorCount);
+      }
 
       if (modelInterceptorCallbacks != null) {
         for (ModelInterceptorCallback callback : modelInterceptorCallbacks) {
@@ -514,6 +670,7 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
     // In that case we may have a previously staged model that still needs to be added.
     clearModelFromStaging(modelToAdd);
     modelToAdd.controllerToStageTo = null;
+    modelToAdd.addedToController = true;
     modelsBeingBuilt.add(modelToAdd);
   }
 
@@ -554,56 +711,95 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
     return threadBuildingModels == Thread.currentThread();
   }
 
-  private void filterDuplicatesIfNeeded(List<EpoxyModel<?>> models) {
+  private void filterDuplicatesIfNeeded(List<EpoxyModel<?>> models,
+      @Nullable EpoxyMetricsListener metricsListener) {
     if (!filterDuplicates) {
       return;
     }
 
+    long startNs = metricsListener != null ? System.nanoTime() : 0;
     timer.start("Duplicates filtered");
-    Set<Long> modelIds = new HashSet<>(models.size());
-
-    ListIterator<EpoxyModel<?>> modelIterator = models.listIterator();
-    while (modelIterator.hasNext()) {
-      EpoxyModel<?> model = modelIterator.next();
-      if (!modelIds.add(model.id())) {
-        int indexOfDuplicate = modelIterator.previousIndex();
-        modelIterator.remove();
-
-        int indexOfOriginal = findPositionOfDuplicate(models, model);
-        EpoxyModel<?> originalModel = models.get(indexOfOriginal);
-        if (indexOfDuplicate <= indexOfOriginal) {
-          // Adjust for the original positions of the models before the duplicate was removed
-          indexOfOriginal++;
-        }
+    int size = models.size();
+    // The position of the first model with each id
+    LongIntMap positionsById = new LongIntMap(size);
+    // Only allocated once a duplicate is found, since duplicates should be rare
+    int[] duplicatePositions = null;
+    int duplicateCount = 0;
+
+    for (int i = 0; i < size; i++) {
+      if (positionsById.putIfAbsent(models.get(i).id(), i) == LongIntMap.NO_VALUE) {
+        continue;
+      }
 
-        onExceptionSwallowed(
-            new IllegalEpoxyUsage("Two models have the same ID. ID's must be unique!"
-                + "\nOriginal has position " + indexOfOriginal + ":\n" + originalModel
-                + "\nDuplicate has position " + indexOfDuplicate + ":\n" + model)
-        );
+      if (duplicatePositions == null) {
+        duplicatePositions = new int[Math.min(size - i, MIN_DUPLICATE_POSITIONS_CAPACITY)];
+      } else if (duplicateCount == duplicatePositions.length) {
+        duplicatePositions = Arrays.copyOf(duplicatePositions, duplicateCount * 2);
       }
+      duplicatePositions[duplicateCount++] = i;
+    }
+
+    if (duplicateCount > 0) {
+      // The exception is created before the duplicates are removed so it can use their positions
+      IllegalEpoxyUsage exception =
+          createDuplicatesException(models, positionsById, duplicatePositions, duplicateCount);
+      removePositions(models, duplicatePositions, duplicateCount);
+      onExceptionSwallowed(exception);
     }
 
     timer.stop();
+    if (metricsListener != null) {
+      metricsListener.onDuplicatesFiltered(this, System.nanoTime() - startNs, duplicateCount);
+    }
+  }
+
+  private static IllegalEpoxyUsage createDuplicatesException(List<EpoxyModel<?>> models,
+      LongIntMap positionsById, int[] duplicatePositions, int duplicateCount) {
+    StringBuilder message = new StringBuilder()
+        .append(duplicateCount)
+        .append(duplicateCount == 1 ? " model was" : " models were")
+        .append(" removed because another model has the same ID. ID's must be unique!");
+
+    int describedCount = Math.min(duplicateCount, MAX_DESCRIBED_DUPLICATES);
+    for (int i = 0; i < describedCount; i++) {
+      int indexOfDuplicate = duplicatePositions[i];
+      EpoxyModel<?> model = models.get(indexOfDuplicate);
+      int indexOfOriginal = positionsById.get(model.id());
+      message.append("\nOriginal has position ").append(indexOfOriginal).append(":\n")
+          .append(models.get(indexOfOriginal))
+          .append("\nDuplicate has position ").append(indexOfDuplicate).append(":\n")
+          .append(model);
+    }
+
+    if (duplicateCount > describedCount) {
+      message.append("\n...and ").append(duplicateCount - describedCount).append(" more");
+    }
+
+    return new IllegalEpoxyUsage(message.toString());
   }
 
-  private int findPositionOfDuplicate(List<EpoxyModel<?>> models, EpoxyModel<?> duplicateModel) {
+  /** Removes the models at the given ascending positions, shifting the rest in a single pass. */
+  private static void removePositions(List<EpoxyModel<?>> models, int[] positions, int count) {
     int size = models.size();
-    for (int i = 0; i < size; i++) {
-      EpoxyModel<?> model = models.get(i);
-      if (model.id() == duplicateModel.id()) {
-        return i;
+    int writeIndex = positions[0];
+    int nextRemoval = 0;
+    for (int readIndex = writeIndex; readIndex < size; readIndex++) {
+      if (nextRemoval < count && positions[nextRemoval] == readIndex) {
+        nextRemoval++;
+        continue;
       }
+      models.set(writeIndex++, models.get(readIndex));
     }
 
-    throw new IllegalArgumentException("No duplicates in list");
+    models.subList(writeIndex, size).clear();
   }
 
   /**
    * If set to true, Epoxy will search for models with duplicate ids added during {@link
    * #buildModels()} and remove any duplicates found. If models with the same id are found, the
    * first one is left in the adapter and any subsequent models are removed. {@link
-   * #onExceptionSwallowed(RuntimeException)} will be called for each duplicate removed.
+   * #onExceptionSwallowed(RuntimeException)} will be called once for each model build that removed
+   * duplicates, with an exception describing them.
    * <p>
    * This may be useful if your models are created via server supplied data, in which case the
    * server may erroneously send duplicate items. Duplicate items are otherwise left in and can
@@ -626,6 +822,43 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
     EpoxyController.filterDuplicatesDefault = filterDuplicatesByDefault;
   }
 
+  /**
+   * Set a strategy to calculate the changes between models after each model build, instead of the
+   * default {@link androidx.recyclerview.widget.DiffUtil} based diffing. Set to null to use the
+   * default. This applies starting with the next model build.
+   * <p>
+   * Since models in an EpoxyController must have unique ids, {@link IdDiffStrategy} can be used to
+   * diff with a faster algorithm that matches models by id.
+   */
+  public void setDiffStrategy(@Nullable EpoxyDiffStrategy diffStrategy) {
+    adapter.setDiffStrategy(diffStrategy);
+  }
+
+  @Nullable
+  public EpoxyDiffStrategy getDiffStrategy() {
+    return adapter.getDiffStrategy();
+  }
+
+  /**
+   * Set whether the default diffing looks for models that moved. Moves are detected by default.
+   * Finding them is an extra pass over all removed and inserted models, which is slow when many
+   * models are added and removed at once. Controllers whose models never change order, such as
+   * feeds that only append, can disable it to diff faster.
+   * <p>
+   * With move detection disabled, a model that did change position is dispatched to the adapter
+   * as a removal at its old position and an insertion at its new one. RecyclerView then animates
+   * it out and in instead of moving it, and binds it to a new view. This applies starting with the
+   * next model build, and has no effect if a {@link #setDiffStrategy(EpoxyDiffStrategy) diff
+   * strategy} is set.
+   */
+  public void setMoveDetectionEnabled(boolean enabled) {
+    adapter.setMoveDetectionEnabled(enabled);
+  }
+
+  public boolean isMoveDetectionEnabled() {
+    return adapter.isMoveDetectionEnabled();
+  }
+
   /**
    * If enabled, DEBUG logcat messages will be printed to show when models are rebuilt, the time
    * taken to build them, the time taken to diff them, and the item change outcomes from the
@@ -668,6 +901,65 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
     EpoxyController.globalDebugLoggingEnabled = globalDebugLoggingEnabled;
   }
 
+  /**
+   * Returns a helper that creates view holders for this controller's models on a background
+   * thread before they are needed, so their views don't have to be inflated on the main thread
+   * while scrolling. Must be called on the main thread.
+   */
+  @NonNull
+  public ViewHolderPrewarmer getViewHolderPrewarmer() {
+    if (viewHolderPrewarmer == null) {
+      viewHolderPrewarmer = new ViewHolderPrewarmer(this);
+    }
+    return viewHolderPrewarmer;
+  }
+
+  /** The prewarmer, or null if {@link #getViewHolderPrewarmer()} was never called. */
+  @Nullable
+  ViewHolderPrewarmer getViewHolderPrewarmerIfCreated() {
+    return viewHolderPrewarmer;
+  }
+
+  /**
+   * Set a listener to receive performance metrics for this controller, such as how long models
+   * took to build and diff, or null to stop reporting metrics. Nothing is measured while no
+   * listener is set.
+   */
+  public void setMetricsListener(@Nullable EpoxyMetricsListener metricsListener) {
+    this.metricsListener = metricsListener;
+  }
+
+  @Nullable
+  public EpoxyMetricsListener getMetricsListener() {
+    return metricsListener;
+  }
+
+  /**
+   * If enabled, trace sections are added around model building, interceptors, diffing, and the
+   * creation and binding of views, so that Epoxy's work shows up in system traces such as
+   * Perfetto. Sections are labelled with the controller or model class they are for.
+   * <p>
+   * This applies to all EpoxyControllers and adapters. Sections are only added while the app is
+   * being traced, but checking that has a small cost, so this is disabled by default.
+   */
+  public static void setGlobalTracingEnabled(boolean enabled) {
+    EpoxyTracing.setEnabled(enabled);
+  }
+
+  public static boolean isGlobalTracingEnabled() {
+    return EpoxyTracing.isEnabled();
+  }
+
+  /**
+   * Similar to {@link #setMetricsListener(EpoxyMetricsListener)}, but this sets the listener used
+   * by all EpoxyControllers created after this is called.
+   * <p>
+   * The default is null.
+   */
+  public static void setGlobalMetricsListener(@Nullable EpoxyMetricsListener metricsListener) {
+    EpoxyController.globalMetricsListener = metricsListener;
+  }
+
   /**
    * An optimized way to move a model from one position to another without rebuilding all models.
    * This is intended to be used with {@link androidx.recyclerview.widget.ItemTouchHelper} to
@@ -677,7 +969,8 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
    * <p>
    * This will immediately change the model's position and notify the change to the RecyclerView.
    * However, a delayed request to rebuild models will be scheduled for the future to guarantee that
-   * models are in sync with data.
+   * models are in sync with data. If the move is part of a drag with {@link EpoxyTouchHelper}, the
+   * models are instead rebuilt once, when the dragged item is released.
    *
    * @param fromPosition Previous position of the item.
    * @param toPosition   New position of the item.
@@ -687,7 +980,24 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
 
     adapter.moveModel(fromPosition, toPosition);
 
-    requestDelayedModelBuild(500);
+    if (isDragInProgress) {
+      modelsMovedDuringDrag = true;
+    } else {
+      requestDelayedModelBuild(500);
+    }
+  }
+
+  /**
+   * Called by {@link EpoxyModelTouchCallback} on the main thread when an item starts or stops
+   * being dragged.
+   */
+  void setDragInProgress(boolean isDragInProgress) {
+    this.isDragInProgress = isDragInProgress;
+
+    if (!isDragInProgress && modelsMovedDuringDrag) {
+      modelsMovedDuringDrag = false;
+      requestModelBuild();
+    }
   }
 
 
@@ -769,6 +1079,23 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
     globalExceptionHandler.onException(this, exception);
   }
 
+  /**
+   * Called on the model building thread when a model build starts that handles more than one call
+   * to {@link #requestModelBuild()} or {@link #requestDelayedModelBuild(int)}, because the calls
+   * were made before the build they requested had started.
+   * <p>
+   * This can be overridden to track how well requests are being coalesced, for example when
+   * {@link #setFrameAlignedModelBuildsEnabled(boolean)} is used. By default the count is logged if
+   * debug logging is enabled.
+   *
+   * @param requestCount The number of requests handled by this build.
+   */
+  protected void onModelBuildRequestsCoalesced(int requestCount) {
+    if (isDebugLoggingEnabled()) {
+      Log.d(getClass().getSimpleName(), "Coalesced " + requestCount + " model build requests");
+    }
+  }
+
   /**
    * Default handler for exceptions in all EpoxyControllers. Set with {@link
    * #setGlobalExceptionHandler(ExceptionHandler)}
@@ -1,7 +1,7 @@
 package com.airbnb.epoxy;
 
-import android.os.Handler;
 import android.view.View;
+import android.view.ViewGroup;
 
 import com.airbnb.epoxy.AsyncEpoxyDiffer.ResultCallback;
 
@@ -9,11 +9,14 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.UiThread;
+import androidx.recyclerview.widget.AdapterListUpdateCallback;
 import androidx.recyclerview.widget.DiffUtil.ItemCallback;
+import androidx.recyclerview.widget.ListUpdateCallback;
 import androidx.recyclerview.widget.RecyclerView;
 
 public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements ResultCallback {
@@ -23,10 +26,10 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
   private int itemCount;
   private final List<OnModelBuildFinishedListener> modelBuildListeners = new ArrayList<>();
 
-  EpoxyControllerAdapter(@NonNull EpoxyController epoxyController, Handler diffingHandler) {
+  EpoxyControllerAdapter(@NonNull EpoxyController epoxyController, Executor diffingExecutor) {
     this.epoxyController = epoxyController;
     differ = new AsyncEpoxyDiffer(
-        diffingHandler,
+        diffingExecutor,
         this,
         ITEM_CALLBACK
     );
@@ -77,6 +80,45 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
     differ.submitList(models);
   }
 
+  /**
+   * Set a strategy to calculate diffs with instead of the default {@link
+   * androidx.recyclerview.widget.DiffUtil}, or null to use the default.
+   */
+  public void setDiffStrategy(@Nullable EpoxyDiffStrategy diffStrategy) {
+    differ.setDiffStrategy(diffStrategy);
+  }
+
+  @Nullable
+  public EpoxyDiffStrategy getDiffStrategy() {
+    return differ.getDiffStrategy();
+  }
+
+  /** Set whether the default diffing detects moved models. See {@link EpoxyController}. */
+  public void setMoveDetectionEnabled(boolean enabled) {
+    differ.setDetectMoves(enabled);
+  }
+
+  public boolean isMoveDetectionEnabled() {
+    return differ.isDetectMoves();
+  }
+
+  /**
+   * @return The number of diffs that were aborted before finishing because newer models were
+   * set, so their results would have been discarded.
+   */
+  public int getAbortedDiffCount() {
+    return differ.getAbortedDiffCount();
+  }
+
+  /**
+   * @return The number of model lists that were never diffed because newer models were set
+   * before their diff started. Only the newest models are diffed when models are built faster
+   * than they can be diffed.
+   */
+  public int getConflatedSubmissionCount() {
+    return differ.getConflatedSubmissionCount();
+  }
+
   /**
    * @return True if a diff operation is in progress.
    */
@@ -88,8 +130,13 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
   @Override
   public void onResult(@NonNull DiffResult result) {
     itemCount = result.newModels.size();
+    EpoxyMetricsListener metricsListener = epoxyController.getMetricsListener();
     notifyBlocker.allowChanges();
-    result.dispatchTo(this);
+    if (metricsListener == null) {
+      result.dispatchTo(this);
+    } else {
+      dispatchAndReportResult(result, metricsListener);
+    }
     notifyBlocker.blockChanges();
 
     for (int i = modelBuildListeners.size() - 1; i >= 0; i--) {
@@ -97,6 +144,18 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
     }
   }
 
+  private void dispatchAndReportResult(DiffResult result, EpoxyMetricsListener metricsListener) {
+    CountingListUpdateCallback counts =
+        new CountingListUpdateCallback(new AdapterListUpdateCallback(this));
+    long startNs = System.nanoTime();
+    result.dispatchTo(counts);
+    long dispatchDurationNs = System.nanoTime() - startNs;
+
+    metricsListener.onDiffCalculated(epoxyController, result.diffDurationNs,
+        counts.insertedCount, counts.removedCount, counts.movedCount, counts.changedCount);
+    metricsListener.onDiffDispatched(epoxyController, dispatchDurationNs);
+  }
+
   public void addModelBuildListener(OnModelBuildFinishedListener listener) {
     modelBuildListeners.add(listener);
   }
@@ -110,6 +169,61 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
     return true;
   }
 
+  @NonNull
+  @Override
+  public EpoxyViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+    ViewHolderPrewarmer prewarmer = epoxyController.getViewHolderPrewarmerIfCreated();
+    if (prewarmer != null) {
+      prewarmer.onViewHolderCreated(viewType);
+    }
+
+    EpoxyMetricsListener metricsListener = epoxyController.getMetricsListener();
+    if (metricsListener == null) {
+      return super.onCreateViewHolder(parent, viewType);
+    }
+
+    long startNs = System.nanoTime();
+    EpoxyViewHolder holder = super.onCreateViewHolder(parent, viewType);
+    metricsListener.onViewHolderCreated(epoxyController,
+        getModelForViewType(viewType).getClass(), System.nanoTime() - startNs);
+    return holder;
+  }
+
+  @Override
+  public void onBindViewHolder(@NonNull EpoxyViewHolder holder, int position,
+      @NonNull List<Object> payloads) {
+    ViewHolderPrewarmer prewarmer = epoxyController.getViewHolderPrewarmerIfCreated();
+    if (prewarmer != null) {
+      prewarmer.onViewHolderBound(holder);
+    }
+
+    EpoxyMetricsListener metricsListener = epoxyController.getMetricsListener();
+    if (metricsListener == null) {
+      super.onBindViewHolder(holder, position, payloads);
+      return;
+    }
+
+    long startNs = System.nanoTime();
+    super.onBindViewHolder(holder, position, payloads);
+    metricsListener.onViewHolderBound(epoxyController, holder.getModel().getClass(),
+        System.nanoTime() - startNs, holder.boundWithPreviousModel);
+  }
+
+  @Override
+  public void onViewRecycled(@NonNull EpoxyViewHolder holder) {
+    EpoxyMetricsListener metricsListener = epoxyController.getMetricsListener();
+    if (metricsListener == null) {
+      super.onViewRecycled(holder);
+      return;
+    }
+
+    // The model is cleared from the holder when it is unbound
+    Class<?> modelClass = holder.getModel().getClass();
+    long startNs = System.nanoTime();
+    super.onViewRecycled(holder);
+    metricsListener.onViewHolderUnbound(epoxyController, modelClass, System.nanoTime() - startNs);
+  }
+
   @Override
   public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
     super.onAttachedToRecyclerView(recyclerView);
@@ -163,30 +277,17 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
 
   /**
    * Searches the current model list for the model with the given id. Returns the matching model if
-   * one is found, otherwise null is returned.
+   * one is found, otherwise null is returned. This uses an index of the current models by id, so
+   * it takes constant time.
    */
   @Nullable
   public EpoxyModel<?> getModelById(long id) {
-    for (EpoxyModel<?> model : getCurrentModels()) {
-      if (model.id() == id) {
-        return model;
-      }
-    }
-
-    return null;
+    return differ.getIdIndex().getModel(id);
   }
 
   @Override
   public int getModelPosition(@NonNull EpoxyModel<?> targetModel) {
-    int size = getCurrentModels().size();
-    for (int i = 0; i < size; i++) {
-      EpoxyModel<?> model = getCurrentModels().get(i);
-      if (model.id() == targetModel.id()) {
-        return i;
-      }
-    }
-
-    return -1;
+    return differ.getIdIndex().getPosition(targetModel.id());
   }
 
   @NonNull
@@ -197,14 +298,11 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
 
   @UiThread
   void moveModel(int fromPosition, int toPosition) {
-    ArrayList<EpoxyModel<?>> updatedList = new ArrayList<>(getCurrentModels());
-
-    updatedList.add(toPosition, updatedList.remove(fromPosition));
     notifyBlocker.allowChanges();
     notifyItemMoved(fromPosition, toPosition);
     notifyBlocker.blockChanges();
 
-    boolean interruptedDiff = differ.forceListOverride(updatedList);
+    boolean interruptedDiff = differ.moveItem(fromPosition, toPosition);
 
     if (interruptedDiff) {
       // The move interrupted a model rebuild/diff that was in progress,
@@ -215,13 +313,12 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
 
   @UiThread
   void notifyModelChanged(int position) {
-    ArrayList<EpoxyModel<?>> updatedList = new ArrayList<>(getCurrentModels());
-
     notifyBlocker.allowChanges();
     notifyItemChanged(position);
     notifyBlocker.blockChanges();
 
-    boolean interruptedDiff = differ.forceListOverride(updatedList);
+    // The models are unchanged, but a diff in progress was calculated before the change
+    boolean interruptedDiff = differ.cancelDiff();
 
     if (interruptedDiff) {
       // The move interrupted a model rebuild/diff that was in progress,
@@ -230,7 +327,44 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
     }
   }
 
-  private static final ItemCallback<EpoxyModel<?>> ITEM_CALLBACK =
+  /** Counts the updates passed to the wrapped callback, for metrics. */
+  private static class CountingListUpdateCallback implements ListUpdateCallback {
+    private final ListUpdateCallback callback;
+    int insertedCount;
+    int removedCount;
+    int movedCount;
+    int changedCount;
+
+    CountingListUpdateCallback(ListUpdateCallback callback) {
+      this.callback = callback;
+    }
+
+    @Override
+    public void onInserted(int position, int count) {
+      insertedCount += count;
+      callback.onInserted(position, count);
+    }
+
+    @Override
+    public void onRemoved(int position, int count) {
+      removedCount += count;
+      callback.onRemoved(position, count);
+    }
+
+    @Override
+    public void onMoved(int fromPosition, int toPosition) {
+      movedCount++;
+      callback.onMoved(fromPosition, toPosition);
+    }
+
+    @Override
+    public void onChanged(int position, int count, @Nullable Object payload) {
+      changedCount += count;
+      callback.onChanged(position, count, payload);
+    }
+  }
+
+  static final ItemCallback<EpoxyModel<?>> ITEM_CALLBACK =
       new ItemCallback<EpoxyModel<?>>() {
         @Override
         public boolean areItemsTheSame(EpoxyModel<?> oldItem, EpoxyModel<?> newItem) {
@@ -244,7 +378,8 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
 
         @Override
         public Object getChangePayload(EpoxyModel<?> oldItem, EpoxyModel<?> newItem) {
-          return new DiffPayload(oldItem);
+          // Computed here so that the work is done on the diffing thread instead of during bind
+          return new DiffPayload(oldItem, newItem.computeChangeMask(oldItem));
         }
       };
 
@@ -0,0 +1,38 @@
+package com.airbnb.epoxy;
+
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil.ItemCallback;
+import androidx.recyclerview.widget.ListUpdateCallback;
+
+/**
+ * Calculates the changes between two lists of models. This can be set on an {@link
+ * EpoxyController} with {@link EpoxyController#setDiffStrategy(EpoxyDiffStrategy)} to replace the
+ * default diffing, which uses {@link androidx.recyclerview.widget.DiffUtil}.
+ * <p>
+ * The diff is run on the controller's diffing thread, and the reported updates are recorded so
+ * that they can later be dispatched to the adapter on the main thread.
+ *
+ * @see IdDiffStrategy
+ */
+public interface EpoxyDiffStrategy {
+
+  /**
+   * Report the updates that transform the old models into the new models to the given callback.
+   * Updates are applied in the order they are reported, so the positions of each update must take
+   * all previously reported updates into account. This is the same contract as {@link
+   * androidx.recyclerview.widget.DiffUtil.DiffResult#dispatchUpdatesTo(ListUpdateCallback)}.
+   *
+   * @param oldModels    The models currently shown. Neither list is empty.
+   * @param newModels    The models to show.
+   * @param itemCallback Determines whether two models have the same contents, and the payload to
+   *                     use when a model changed.
+   */
+  void calculateDiff(
+      @NonNull List<? extends EpoxyModel<?>> oldModels,
+      @NonNull List<? extends EpoxyModel<?>> newModels,
+      @NonNull ItemCallback<EpoxyModel<?>> itemCallback,
+      @NonNull ListUpdateCallback updateCallback
+  );
+}
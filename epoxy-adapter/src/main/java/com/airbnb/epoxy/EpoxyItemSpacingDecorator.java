@@ -3,18 +3,25 @@ package com.airbnb.epoxy;
 import android.graphics.Rect;
 import android.view.View;
 
+import androidx.annotation.Nullable;
 import androidx.annotation.Px;
 import androidx.core.view.ViewCompat;
 import androidx.recyclerview.widget.GridLayoutManager;
 import androidx.recyclerview.widget.GridLayoutManager.SpanSizeLookup;
 import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
+import androidx.recyclerview.widget.RecyclerView.AdapterDataObserver;
 import androidx.recyclerview.widget.RecyclerView.LayoutManager;
 import androidx.recyclerview.widget.RecyclerView.State;
 
 /**
  * Modifies item spacing in a recycler view so that items are equally spaced no matter where they
  * are on the grid. Only designed to work with standard linear or grid layout managers.
+ * <p>
+ * In a grid, the row and span index of each item are looked up in the span size lookup's caches
+ * if they are enabled. Otherwise they are indexed for all items at once, and the index is rebuilt
+ * after the adapter notifies changes. The decorator stops observing the adapter once it is removed
+ * from the RecyclerView or the RecyclerView's adapter is changed.
  */
 public class EpoxyItemSpacingDecorator extends RecyclerView.ItemDecoration {
   private int pxBetweenItems;
@@ -29,6 +36,42 @@ public class EpoxyItemSpacingDecorator extends RecyclerView.ItemDecoration {
   private boolean isInFirstRow;
   private boolean isInLastRow;
 
+  /** Span index and row of each item, if the span size lookup doesn't cache them. */
+  private int[] spanIndices = new int[0];
+  private int[] rowIndices = new int[0];
+  /** The number of items that are indexed, or -1 if the index must be rebuilt. */
+  private int indexedItemCount = -1;
+  private int indexedSpanCount;
+  @Nullable private SpanSizeLookup indexedSpanSizeLookup;
+  @Nullable private RecyclerView observedRecyclerView;
+  @Nullable private RecyclerView.Adapter<?> observedAdapter;
+  private final AdapterDataObserver indexInvalidator = new AdapterDataObserver() {
+    @Override
+    public void onChanged() {
+      invalidateIndex();
+    }
+
+    @Override
+    public void onItemRangeChanged(int positionStart, int itemCount) {
+      invalidateIndex();
+    }
+
+    @Override
+    public void onItemRangeInserted(int positionStart, int itemCount) {
+      invalidateIndex();
+    }
+
+    @Override
+    public void onItemRangeRemoved(int positionStart, int itemCount) {
+      invalidateIndex();
+    }
+
+    @Override
+    public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+      invalidateIndex();
+    }
+  };
+
   public EpoxyItemSpacingDecorator() {
     this(0);
   }
@@ -87,7 +130,8 @@ public class EpoxyItemSpacingDecorator extends RecyclerView.ItemDecoration {
   }
 
   private void calculatePositionDetails(RecyclerView parent, int position, LayoutManager layout) {
-    int itemCount = parent.getAdapter().getItemCount();
+    RecyclerView.Adapter<?> adapter = parent.getAdapter();
+    int itemCount = adapter.getItemCount();
     firstItem = position == 0;
     lastItem = position == itemCount - 1;
     horizontallyScrolling = layout.canScrollHorizontally();
@@ -99,13 +143,108 @@ public class EpoxyItemSpacingDecorator extends RecyclerView.ItemDecoration {
       final SpanSizeLookup spanSizeLookup = grid.getSpanSizeLookup();
       int spanSize = spanSizeLookup.getSpanSize(position);
       int spanCount = grid.getSpanCount();
-      int spanIndex = spanSizeLookup.getSpanIndex(position, spanCount);
+
+      int spanIndex;
+      int row;
+      int lastRow;
+      if (spanSizeLookup.isSpanIndexCacheEnabled()
+          && spanSizeLookup.isSpanGroupIndexCacheEnabled()) {
+        // The layout manager keeps these caches up to date with adapter changes
+        spanIndex = spanSizeLookup.getSpanIndex(position, spanCount);
+        row = spanSizeLookup.getSpanGroupIndex(position, spanCount);
+        lastRow = spanSizeLookup.getSpanGroupIndex(itemCount - 1, spanCount);
+      } else {
+        updateSpanIndex(parent, adapter, spanSizeLookup, spanCount, itemCount);
+        spanIndex = spanIndices[position];
+        row = rowIndices[position];
+        lastRow = rowIndices[itemCount - 1];
+      }
+
       isFirstItemInRow = spanIndex == 0;
       fillsLastSpan = spanIndex + spanSize == spanCount;
-      isInFirstRow = isInFirstRow(position, spanSizeLookup, spanCount);
-      isInLastRow =
-          !isInFirstRow && isInLastRow(position, itemCount, spanSizeLookup, spanCount);
+      isInFirstRow = row == 0;
+      isInLastRow = !isInFirstRow && row == lastRow;
+    }
+  }
+
+  /**
+   * Indexes the span index and row of every item if the adapter changed since they were last
+   * indexed. Items are assigned to rows the same way {@link GridLayoutManager} does.
+   */
+  private void updateSpanIndex(RecyclerView parent, RecyclerView.Adapter<?> adapter,
+      SpanSizeLookup spanSizeLookup, int spanCount, int itemCount) {
+    if (adapter != observedAdapter) {
+      stopObservingAdapter();
+      adapter.registerAdapterDataObserver(indexInvalidator);
+      observedAdapter = adapter;
+    }
+    observedRecyclerView = parent;
+
+    if (indexedItemCount == itemCount
+        && indexedSpanCount == spanCount
+        && indexedSpanSizeLookup == spanSizeLookup) {
+      return;
+    }
+
+    if (spanIndices.length < itemCount) {
+      spanIndices = new int[itemCount];
+      rowIndices = new int[itemCount];
+    }
+
+    int span = 0;
+    int row = 0;
+    for (int i = 0; i < itemCount; i++) {
+      int spanSize = spanSizeLookup.getSpanSize(i);
+      if (span > 0 && span + spanSize > spanCount) {
+        // The item doesn't fit in the rest of the row, so it starts a new one
+        span = 0;
+        row++;
+      }
+
+      spanIndices[i] = span;
+      rowIndices[i] = row;
+
+      span += spanSize;
+      if (span >= spanCount) {
+        span = 0;
+        row++;
+      }
     }
+
+    indexedItemCount = itemCount;
+    indexedSpanCount = spanCount;
+    indexedSpanSizeLookup = spanSizeLookup;
+  }
+
+  private void invalidateIndex() {
+    indexedItemCount = -1;
+
+    // There is no callback for a decoration being removed, so check on each change instead.
+    // Observers are notified in reverse order, so this one can be unregistered while notified.
+    RecyclerView recyclerView = observedRecyclerView;
+    if (recyclerView == null
+        || recyclerView.getAdapter() != observedAdapter
+        || !isDecorating(recyclerView)) {
+      stopObservingAdapter();
+    }
+  }
+
+  private void stopObservingAdapter() {
+    if (observedAdapter != null) {
+      observedAdapter.unregisterAdapterDataObserver(indexInvalidator);
+      observedAdapter = null;
+    }
+    observedRecyclerView = null;
+    indexedItemCount = -1;
+  }
+
+  private boolean isDecorating(RecyclerView recyclerView) {
+    for (int i = 0; i < recyclerView.getItemDecorationCount(); i++) {
+      if (recyclerView.getItemDecorationAt(i) == this) {
+        return true;
+      }
+    }
+    return false;
   }
 
   private static boolean shouldReverseLayout(LayoutManager layout, boolean horizontallyScrolling) {
@@ -155,29 +294,4 @@ public class EpoxyItemSpacingDecorator extends RecyclerView.ItemDecoration {
 
     return horizontallyScrolling && !firstItem;
   }
-
-  private static boolean isInFirstRow(int position, SpanSizeLookup spanSizeLookup, int spanCount) {
-    int totalSpan = 0;
-    for (int i = 0; i <= position; i++) {
-      totalSpan += spanSizeLookup.getSpanSize(i);
-      if (totalSpan > spanCount) {
-        return false;
-      }
-    }
-
-    return true;
-  }
-
-  private static boolean isInLastRow(int position, int itemCount, SpanSizeLookup spanSizeLookup,
-      int spanCount) {
-    int totalSpan = 0;
-    for (int i = itemCount - 1; i >= position; i--) {
-      totalSpan += spanSizeLookup.getSpanSize(i);
-      if (totalSpan > spanCount) {
-        return false;
-      }
-    }
-
-    return true;
-  }
 }
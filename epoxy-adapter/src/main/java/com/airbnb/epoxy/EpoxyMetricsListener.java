@@ -0,0 +1,90 @@
+package com.airbnb.epoxy;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Receives performance metrics from an {@link EpoxyController}, for example to aggregate
+ * histograms of model build and diff latency in production. Set it with {@link
+ * EpoxyController#setMetricsListener(EpoxyMetricsListener)}, or for all controllers with {@link
+ * EpoxyController#setGlobalMetricsListener(EpoxyMetricsListener)}.
+ * <p>
+ * All durations are in nanoseconds. Each method does nothing by default, so only the events of
+ * interest need to be overridden. Events are reported synchronously on the thread noted for each
+ * method, so implementations should be fast and must be thread safe if models are built or diffed
+ * off the main thread.
+ * <p>
+ * Unlike {@link EpoxyController#setDebugLoggingEnabled(boolean)}, nothing is timed when no
+ * listener is set.
+ */
+public abstract class EpoxyMetricsListener {
+
+  /**
+   * Called on the model building thread after {@link EpoxyController#buildModels()} returns.
+   *
+   * @param modelCount The number of models that were added.
+   */
+  public void onModelsBuilt(@NonNull EpoxyController controller, long durationNs, int modelCount) {
+  }
+
+  /**
+   * Called on the model building thread after the controller's interceptors have run. This is not
+   * called if the controller has no interceptors.
+   */
+  public void onInterceptorsRun(@NonNull EpoxyController controller, long durationNs,
+      int interceptorCount) {
+  }
+
+  /**
+   * Called on the model building thread after models with duplicate ids were searched for. This
+   * is only called if {@link EpoxyController#setFilterDuplicates(boolean)} is enabled.
+   *
+   * @param duplicateCount The number of models that were removed.
+   */
+  public void onDuplicatesFiltered(@NonNull EpoxyController controller, long durationNs,
+      int duplicateCount) {
+  }
+
+  /**
+   * Called on the main thread with the result of a diff, right after it was dispatched to the
+   * adapter. Diffs whose result was discarded because newer models were set are not reported.
+   *
+   * @param durationNs The time the diff took on the diffing thread. This is 0 if no diff was needed
+   *                   because either model list was empty or the lists were the same.
+   * @param insertedCount The number of items that were inserted.
+   * @param removedCount The number of items that were removed.
+   * @param movedCount The number of items that were moved.
+   * @param changedCount The number of items that were changed.
+   */
+  public void onDiffCalculated(@NonNull EpoxyController controller, long durationNs,
+      int insertedCount, int removedCount, int movedCount, int changedCount) {
+  }
+
+  /** Called on the main thread after the result of a diff was dispatched to the adapter. */
+  public void onDiffDispatched(@NonNull EpoxyController controller, long durationNs) {
+  }
+
+  /**
+   * Called on the main thread after a view holder was created for a model of the given class.
+   */
+  public void onViewHolderCreated(@NonNull EpoxyController controller,
+      @NonNull Class<?> modelClass, long durationNs) {
+  }
+
+  /**
+   * Called on the main thread after a model of the given class was bound to a view holder.
+   *
+   * @param isPartialBind True if the view was bound with the model it previously showed, so that
+   *                      only changed properties needed to be bound.
+   */
+  public void onViewHolderBound(@NonNull EpoxyController controller,
+      @NonNull Class<?> modelClass, long durationNs, boolean isPartialBind) {
+  }
+
+  /**
+   * Called on the main thread after a model of the given class was unbound from a view holder
+   * that was recycled.
+   */
+  public void onViewHolderUnbound(@NonNull EpoxyController controller,
+      @NonNull Class<?> modelClass, long durationNs) {
+  }
+}
@@ -34,6 +34,14 @@ public abstract class EpoxyModel<T> {
    */
   private static long idCounter = -1;
 
+  /**
+   * A change mask that doesn't identify which attributes changed, so all of them should be treated
+   * as changed.
+   *
+   * @see #computeChangeMask(EpoxyModel)
+   */
+  public static final long CHANGE_MASK_ALL = -1L;
+
   /**
    * An id that can be used to uniquely identify this {@link EpoxyModel} for use in RecyclerView
    * stable ids. It defaults to a unique id for this object instance, if you want to maintain the
@@ -61,6 +69,16 @@ public abstract class EpoxyModel<T> {
   EpoxyController controllerToStageTo;
   private boolean currentlyInInterceptors;
   private int hashCodeWhenAdded;
+  /**
+   * Set once the model is added to an {@link EpoxyController}, after which it must not be changed
+   * except from an interceptor.
+   */
+  boolean addedToController;
+  /**
+   * Incremented by {@link #onMutation()}, so that generated models which cache their hashCode can
+   * tell whether the cached value is still valid.
+   */
+  private int mutationCount;
   private boolean hasDefaultId;
   @Nullable private SpanSizeOverrideCallback spanSizeOverride;
 
@@ -89,6 +107,16 @@ public abstract class EpoxyModel<T> {
     return getLayout();
   }
 
+  /**
+   * This is used internally by generated models that are assigned a view type when their class is
+   * loaded, see {@link PackageEpoxyConfig#generateViewTypes()}. Each call returns a new view type
+   * that is unique in the process, and that never collides with a layout resource or with the view
+   * types Epoxy assigns at run time to models whose {@link #getViewType()} returns 0.
+   */
+  protected static int generateViewType() {
+    return ViewTypeManager.generateViewType();
+  }
+
   /**
    * Create and return a new instance of a view for this model. By default a view is created by
    * inflating the layout resource.
@@ -189,6 +217,32 @@ public abstract class EpoxyModel<T> {
     bind(view);
   }
 
+  /**
+   * Similar to {@link #bind(Object, EpoxyModel)}, but also provides a bit mask of the attributes
+   * that changed since the previously bound model, as computed by {@link
+   * #computeChangeMask(EpoxyModel)} while diffing. This allows a view to be updated without
+   * comparing each attribute again on the main thread.
+   * <p>
+   * This is only called with a mask other than {@link #CHANGE_MASK_ALL}; the default
+   * implementation ignores the mask and calls {@link #bind(Object, EpoxyModel)}.
+   */
+  public void bind(@NonNull T view, @NonNull EpoxyModel<?> previouslyBoundModel,
+      long changeMask) {
+    bind(view, previouslyBoundModel);
+  }
+
+  /**
+   * Computes a bit mask of which attributes of this model differ from the given model with the
+   * same id. This is called on the diffing thread when the contents of the two models differ, and
+   * the result is passed to {@link #bind(Object, EpoxyModel, long)} when the view is rebound.
+   * <p>
+   * Generated models implement this when change masks are enabled with {@link
+   * PackageEpoxyConfig#generateChangeMasks()}. The default returns {@link #CHANGE_MASK_ALL}.
+   */
+  public long computeChangeMask(@NonNull EpoxyModel<?> previousModel) {
+    return CHANGE_MASK_ALL;
+  }
+
   /**
    * Called when the view bound to this model is recycled. Subclasses can override this if their
    * view should release resources when it's recycled.
@@ -461,6 +515,8 @@ public abstract class EpoxyModel<T> {
    * implicit adding is enabled.
    */
   protected final void onMutation() {
+    mutationCount++;
+
     // The model may be added to multiple controllers, in which case if it was already diffed
     // and added to an adapter in one controller we don't want to even allow interceptors
     // from changing the model in a different controller
@@ -486,6 +542,25 @@ public abstract class EpoxyModel<T> {
     return controller.getAdapter().getModelPosition(model);
   }
 
+  /**
+   * This is used internally by generated models that cache their hashCode, see {@link
+   * PackageEpoxyConfig#cacheHashCode()}. The hashCode can only be cached once the model has been
+   * added to a controller, since it must not change after that. It is never cached while debug
+   * validation is enabled, so that {@link #validateStateHasNotChangedSinceAdded(String, int)} can
+   * still detect changes that bypass the model's setters.
+   */
+  protected final boolean canCacheHashCode() {
+    return addedToController && !isDebugValidationEnabled();
+  }
+
+  /**
+   * This is used internally by generated models that cache their hashCode. A cached value is only
+   * valid while this count is the same as when the value was computed.
+   */
+  protected final int getMutationCount() {
+    return mutationCount;
+  }
+
   /**
    * This is used internally by generated models to do validation checking when
    * "validateEpoxyModelUsage" is enabled and the model is used with a {@link EpoxyController}. This
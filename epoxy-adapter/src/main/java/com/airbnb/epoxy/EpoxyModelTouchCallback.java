@@ -131,6 +131,9 @@ public abstract class EpoxyModelTouchCallback<T extends EpoxyModel>
         onSwipeStarted((T) model, viewHolder.itemView, viewHolder.getAdapterPosition());
       } else if (actionState == ItemTouchHelper.ACTION_STATE_DRAG) {
         holderBeingDragged = viewHolder;
+        if (controller != null) {
+          controller.setDragInProgress(true);
+        }
         //noinspection unchecked
         onDragStarted((T) model, viewHolder.itemView, viewHolder.getAdapterPosition());
       }
@@ -138,6 +141,10 @@ public abstract class EpoxyModelTouchCallback<T extends EpoxyModel>
       //noinspection unchecked
       onDragReleased((T) holderBeingDragged.getModel(), holderBeingDragged.itemView);
       holderBeingDragged = null;
+      if (controller != null) {
+        // Models are rebuilt once now instead of after every move
+        controller.setDragInProgress(false);
+      }
     } else if (holderBeingSwiped != null) {
       //noinspection unchecked
       onSwipeReleased((T) holderBeingSwiped.getModel(), holderBeingSwiped.itemView);
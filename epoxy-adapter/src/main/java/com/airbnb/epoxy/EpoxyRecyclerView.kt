@@ -542,6 +542,20 @@ open class EpoxyRecyclerView @JvmOverloads constructor(
         epoxyController!!.requestModelBuild()
     }
 
+    /**
+     * Create view holders for the given models on a background thread, and add them to this
+     * RecyclerView's view pool before they are needed. By default the pool is shared by all
+     * EpoxyRecyclerViews in the activity. See [ViewHolderPrewarmer] for details.
+     *
+     * A controller must be set first.
+     */
+    fun prewarmViewHolders(models: List<EpoxyModel<*>>) {
+        val controller = epoxyController
+            ?: throw IllegalStateException("A controller must be set before prewarming views.")
+
+        controller.viewHolderPrewarmer.prewarm(this, models)
+    }
+
     /**
      * Clear the currently set EpoxyController or Adapter as well as any models that are displayed.
      *
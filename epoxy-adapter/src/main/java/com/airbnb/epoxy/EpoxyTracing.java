@@ -0,0 +1,66 @@
+package com.airbnb.epoxy;
+
+import androidx.annotation.NonNull;
+import androidx.tracing.Trace;
+
+/**
+ * Adds Epoxy's work to system traces, such as Perfetto, when enabled with {@link
+ * EpoxyController#setGlobalTracingEnabled(boolean)}. Sections are labelled with the controller or
+ * model class they are for, so frame time can be attributed to them.
+ * <p>
+ * A section is only started if tracing is enabled and the app is being traced, so labels are
+ * never built otherwise. The result of {@link #beginSection(String, Class)} must be passed to
+ * {@link #endSection(boolean)} so that sections stay balanced if the flag changes in between.
+ */
+final class EpoxyTracing {
+  /** The platform rejects longer section names. */
+  private static final int MAX_SECTION_NAME_LENGTH = 127;
+
+  private static volatile boolean enabled;
+
+  private EpoxyTracing() {
+  }
+
+  static void setEnabled(boolean enabled) {
+    EpoxyTracing.enabled = enabled;
+  }
+
+  static boolean isEnabled() {
+    return enabled;
+  }
+
+  /** @return True if a section was started and must be ended. */
+  static boolean beginSection(@NonNull String name) {
+    if (!enabled || !Trace.isEnabled()) {
+      return false;
+    }
+
+    Trace.beginSection(truncate(name));
+    return true;
+  }
+
+  /**
+   * Starts a section whose name is the given prefix followed by the simple name of the class.
+   *
+   * @return True if a section was started and must be ended.
+   */
+  static boolean beginSection(@NonNull String prefix, @NonNull Class<?> labelClass) {
+    if (!enabled || !Trace.isEnabled()) {
+      return false;
+    }
+
+    Trace.beginSection(truncate(prefix + labelClass.getSimpleName()));
+    return true;
+  }
+
+  static void endSection(boolean sectionStarted) {
+    if (sectionStarted) {
+      Trace.endSection();
+    }
+  }
+
+  private static String truncate(String name) {
+    return name.length() <= MAX_SECTION_NAME_LENGTH
+        ? name : name.substring(0, MAX_SECTION_NAME_LENGTH);
+  }
+}
@@ -20,6 +20,8 @@ public class EpoxyViewHolder extends RecyclerView.ViewHolder {
   private List<Object> payloads;
   private EpoxyHolder epoxyHolder;
   @Nullable ViewHolderState.ViewState initialViewState;
+  /** Whether the last bind was a diff bind, for which the previously bound model was available. */
+  boolean boundWithPreviousModel;
 
   // Once the EpoxyHolder is created parent will be set to null.
   private ViewParent parent;
@@ -46,6 +48,7 @@ public class EpoxyViewHolder extends RecyclerView.ViewHolder {
   public void bind(@SuppressWarnings("rawtypes") EpoxyModel model,
       @Nullable EpoxyModel<?> previouslyBoundModel, List<Object> payloads, int position) {
     this.payloads = payloads;
+    boundWithPreviousModel = previouslyBoundModel != null;
 
     if (epoxyHolder == null && model instanceof EpoxyModelWithHolder) {
       epoxyHolder = ((EpoxyModelWithHolder) model).createNewHolder(parent);
@@ -64,8 +67,14 @@ public class EpoxyViewHolder extends RecyclerView.ViewHolder {
     model.preBind(objectToBind(), previouslyBoundModel);
 
     if (previouslyBoundModel != null) {
-      // noinspection unchecked
-      model.bind(objectToBind(), previouslyBoundModel);
+      long changeMask = DiffPayload.getChangeMaskFromPayload(payloads, model.id());
+      if (changeMask != EpoxyModel.CHANGE_MASK_ALL) {
+        // noinspection unchecked
+        model.bind(objectToBind(), previouslyBoundModel, changeMask);
+      } else {
+        // noinspection unchecked
+        model.bind(objectToBind(), previouslyBoundModel);
+      }
     } else if (payloads.isEmpty()) {
       // noinspection unchecked
       model.bind(objectToBind());
@@ -1,8 +1,10 @@
 package com.airbnb.epoxy
 
+import android.os.SystemClock
 import android.util.Log
 import android.util.SparseArray
 import android.view.View
+import android.view.ViewTreeObserver
 import androidx.annotation.IdRes
 import androidx.annotation.IntRange
 import androidx.recyclerview.widget.RecyclerView
@@ -37,7 +39,7 @@ open class EpoxyVisibilityTracker {
      */
     private val itemAnimatorFinishedListener =
         RecyclerView.ItemAnimator.ItemAnimatorFinishedListener {
-            processChangeEvent(
+            processChangeEventNow(
                 "ItemAnimatorFinishedListener.onAnimationsFinished",
                 /* don't check item animator to prevent recursion */ false
             )
@@ -53,6 +55,12 @@ open class EpoxyVisibilityTracker {
     /** listener used to process data events  */
     private val observer = DataObserver()
 
+    /** runs the batched pass when [frameBatchingEnabled] */
+    private val framePass = FramePass()
+    private var framePassScheduled = false
+    private var lastFramePassMillis = NO_FRAME_PASS
+    private var preDrawObserver: ViewTreeObserver? = null
+
     private var attachedRecyclerView: RecyclerView? = null
 
     private var lastAdapterSeen: RecyclerView.Adapter<*>? = null
@@ -85,6 +93,46 @@ open class EpoxyVisibilityTracker {
     @IntRange(from = 0, to = 100)
     var partialImpressionThresholdPercentage: Int? = null
 
+    /**
+     * Enable or disable batching of visibility checks. Default is `false`, which checks the
+     * children on every scroll, layout and attach event, often several times per frame.
+     *
+     * When enabled these events only schedule a check, and all the events of a frame are processed
+     * by a single pass over the children just before the frame is drawn. Views detached from the
+     * [RecyclerView] are still processed right away, and [requestVisibilityCheck] is not batched.
+     *
+     * @see minFramePassIntervalMillis
+     */
+    var frameBatchingEnabled = false
+
+    /**
+     * The minimum time in milliseconds between two batched passes, used to check visibility less
+     * often than every frame while scrolling. A pass that is due sooner is delayed, not dropped, so
+     * the last events are always processed. Default is `0`. Only used if [frameBatchingEnabled].
+     */
+    var minFramePassIntervalMillis = 0L
+
+    /**
+     * The number of passes that checked the visibility of all children.
+     */
+    var executedPassCount = 0
+        private set
+
+    /**
+     * The number of events that did not run their own pass because a batched pass was already
+     * scheduled. Always `0` unless [frameBatchingEnabled].
+     */
+    var skippedPassCount = 0
+        private set
+
+    /**
+     * Set [executedPassCount] and [skippedPassCount] back to `0`.
+     */
+    fun resetPassCounts() {
+        executedPassCount = 0
+        skippedPassCount = 0
+    }
+
     /**
      * Attach the tracker.
      *
@@ -104,6 +152,7 @@ open class EpoxyVisibilityTracker {
      * @param recyclerView The recycler view that the EpoxyController has its adapter added to.
      */
     open fun detach(recyclerView: RecyclerView) {
+        cancelFramePass()
         recyclerView.removeOnScrollListener(listener)
         recyclerView.removeOnLayoutChangeListener(listener)
         recyclerView.removeOnChildAttachStateChangeListener(listener)
@@ -132,7 +181,19 @@ open class EpoxyVisibilityTracker {
      * attached on the horizontal RecyclerView.
      */
     fun requestVisibilityCheck() {
-        processChangeEvent("requestVisibilityCheck")
+        processChangeEventNow("requestVisibilityCheck")
+    }
+
+    /**
+     * Process a change event, or schedule a pass to process it if [frameBatchingEnabled].
+     * @param debug: string for debug usually the source of the call
+     */
+    private fun processChangeEvent(debug: String) {
+        if (frameBatchingEnabled) {
+            scheduleFramePass()
+        } else {
+            processChangeEventNow(debug)
+        }
     }
 
     /**
@@ -140,7 +201,7 @@ open class EpoxyVisibilityTracker {
      * @param debug: string for debug usually the source of the call
      * @param checkItemAnimator: true if it need to check if ItemAnimator is running
      */
-    private fun processChangeEvent(debug: String, checkItemAnimator: Boolean = true) {
+    private fun processChangeEventNow(debug: String, checkItemAnimator: Boolean = true) {
 
         // Only if attached
         val recyclerView = attachedRecyclerView ?: return
@@ -164,6 +225,8 @@ open class EpoxyVisibilityTracker {
         // Only if attached
         val recyclerView = attachedRecyclerView ?: return
 
+        executedPassCount++
+
         // On every every events lookup for a new adapter
         processNewAdapterIfNecessary()
 
@@ -181,6 +244,38 @@ open class EpoxyVisibilityTracker {
         }
     }
 
+    /**
+     * Schedule a pass over all children before the next frame is drawn, unless one is already
+     * scheduled.
+     */
+    private fun scheduleFramePass() {
+        // Only if attached
+        val recyclerView = attachedRecyclerView ?: return
+
+        if (framePassScheduled) {
+            skippedPassCount++
+            return
+        }
+        framePassScheduled = true
+        preDrawObserver = recyclerView.viewTreeObserver.also {
+            it.addOnPreDrawListener(framePass)
+        }
+    }
+
+    private fun cancelFramePass() {
+        removePreDrawListener()
+        attachedRecyclerView?.removeCallbacks(framePass)
+        framePassScheduled = false
+    }
+
+    private fun removePreDrawListener() {
+        // The observer we added to is no longer alive if it was merged into the window's observer
+        val observer = preDrawObserver?.takeIf { it.isAlive }
+            ?: attachedRecyclerView?.viewTreeObserver
+        observer?.removeOnPreDrawListener(framePass)
+        preDrawObserver = null
+    }
+
     /**
      * If there is a new adapter on the attached RecyclerView it will register the data observer and
      * clear the current visibility states
@@ -348,6 +443,8 @@ open class EpoxyVisibilityTracker {
         // tracking (ex: carousel)
         val tracker = getTracker(childRecyclerView) ?: EpoxyVisibilityTracker().let { nested ->
             nested.partialImpressionThresholdPercentage = partialImpressionThresholdPercentage
+            nested.frameBatchingEnabled = frameBatchingEnabled
+            nested.minFramePassIntervalMillis = minFramePassIntervalMillis
             nested.attach(childRecyclerView)
             nested
         }
@@ -388,14 +485,23 @@ open class EpoxyVisibilityTracker {
             if (child is RecyclerView) {
                 processChildRecyclerViewAttached(child)
             }
-            processChild(child, false, "onChildViewAttachedToWindow")
+            if (frameBatchingEnabled) {
+                scheduleFramePass()
+            } else {
+                processChild(child, false, "onChildViewAttachedToWindow")
+            }
         }
 
         override fun onChildViewDetachedFromWindow(child: View) {
             if (child is RecyclerView) {
                 processChildRecyclerViewDetached(child)
             }
-            if (visibleDataChanged) {
+            if (visibleDataChanged && frameBatchingEnabled) {
+                // The detached child won't be part of the next pass, so only it is processed now.
+                processChild(child, true, "onChildViewDetachedFromWindow")
+                scheduleFramePass()
+                visibleDataChanged = false
+            } else if (visibleDataChanged) {
                 // On detach event caused by data set changed we need to re-process all children because
                 // the removal caused the others views to changes.
                 processChangeEventWithDetachedView(child, "onChildViewDetachedFromWindow")
@@ -406,6 +512,33 @@ open class EpoxyVisibilityTracker {
         }
     }
 
+    /**
+     * Runs the batched pass before a frame is drawn, or later if the previous pass was less than
+     * [minFramePassIntervalMillis] ago.
+     */
+    private inner class FramePass : ViewTreeObserver.OnPreDrawListener, Runnable {
+        override fun onPreDraw(): Boolean {
+            removePreDrawListener()
+            val delayMillis = if (lastFramePassMillis == NO_FRAME_PASS) {
+                0L
+            } else {
+                lastFramePassMillis + minFramePassIntervalMillis - SystemClock.uptimeMillis()
+            }
+            if (delayMillis > 0) {
+                attachedRecyclerView?.postDelayed(this, delayMillis)
+            } else {
+                run()
+            }
+            return true
+        }
+
+        override fun run() {
+            framePassScheduled = false
+            lastFramePassMillis = SystemClock.uptimeMillis()
+            processChangeEventNow("framePass")
+        }
+    }
+
     /**
      * The layout/scroll events are not enough to detect all sort of visibility changes. We also
      * need to look at the data events from the adapter.
@@ -523,6 +656,8 @@ open class EpoxyVisibilityTracker {
     companion object {
         private const val TAG = "EpoxyVisibilityTracker"
 
+        private const val NO_FRAME_PASS = -1L
+
         @IdRes
         private val TAG_ID = R.id.epoxy_visibility_tracker
 
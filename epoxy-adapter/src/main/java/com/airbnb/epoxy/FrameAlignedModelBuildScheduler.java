@@ -0,0 +1,52 @@
+package com.airbnb.epoxy;
+
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+import android.view.Choreographer.FrameCallback;
+
+import androidx.annotation.RequiresApi;
+
+/**
+ * Schedules model builds for the next vsync instead of posting them to the model building handler
+ * right away, so that every build request made during a frame is handled by a single build.
+ * <p>
+ * Frame callbacks run at the start of a frame, before layout. A build on the main thread is run
+ * directly from the callback so its diff can be dispatched before that same frame is laid out. A
+ * build on a background thread is posted to the front of its handler's queue so that it has as
+ * much of the frame as possible to finish before the next one.
+ */
+@RequiresApi(Build.VERSION_CODES.JELLY_BEAN)
+class FrameAlignedModelBuildScheduler implements FrameCallback {
+  private final Choreographer choreographer;
+  private final Handler modelBuildHandler;
+  private final Runnable buildModelsRunnable;
+
+  /** Must be created on the main thread, so that builds are aligned with the main choreographer. */
+  FrameAlignedModelBuildScheduler(Handler modelBuildHandler, Runnable buildModelsRunnable) {
+    choreographer = Choreographer.getInstance();
+    this.modelBuildHandler = modelBuildHandler;
+    this.buildModelsRunnable = buildModelsRunnable;
+  }
+
+  /** Safe to call from any thread. */
+  void schedule() {
+    choreographer.postFrameCallback(this);
+  }
+
+  /** Safe to call from any thread. */
+  void cancel() {
+    choreographer.removeFrameCallback(this);
+    modelBuildHandler.removeCallbacks(buildModelsRunnable);
+  }
+
+  @Override
+  public void doFrame(long frameTimeNanos) {
+    if (Looper.myLooper() == modelBuildHandler.getLooper()) {
+      buildModelsRunnable.run();
+    } else {
+      modelBuildHandler.postAtFrontOfQueue(buildModelsRunnable);
+    }
+  }
+}
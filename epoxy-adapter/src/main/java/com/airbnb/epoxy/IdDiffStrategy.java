@@ -0,0 +1,246 @@
+package com.airbnb.epoxy;
+
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.DiffUtil.ItemCallback;
+import androidx.recyclerview.widget.ListUpdateCallback;
+
+/**
+ * A diff strategy that relies on models having unique ids, instead of running the general purpose
+ * Myers diff algorithm used by {@link DiffUtil}. Models are matched by id with a hash map, so
+ * removals and insertions are found in linear time, and the minimal set of moves is found with a
+ * longest increasing subsequence of the models that were kept. The worst case is O(N log N).
+ * <p>
+ * Models are considered to be the same item if they have the same id, regardless of
+ * {@link ItemCallback#areItemsTheSame(Object, Object)}. If either list contains duplicate ids this
+ * falls back to {@link DiffUtil}.
+ * <p>
+ * Updates are reported in this order: removals (from the end of the list to the start), then
+ * insertions and moves, and lastly changes at the final position of each changed model.
+ */
+public final class IdDiffStrategy implements EpoxyDiffStrategy {
+  public static final IdDiffStrategy INSTANCE = new IdDiffStrategy();
+
+  private IdDiffStrategy() {
+  }
+
+  @Override
+  public void calculateDiff(
+      @NonNull List<? extends EpoxyModel<?>> oldModels,
+      @NonNull List<? extends EpoxyModel<?>> newModels,
+      @NonNull ItemCallback<EpoxyModel<?>> itemCallback,
+      @NonNull ListUpdateCallback updateCallback
+  ) {
+    int oldSize = oldModels.size();
+    int newSize = newModels.size();
+
+    LongIntMap newPositionsById = new LongIntMap(newSize);
+    for (int i = 0; i < newSize; i++) {
+      if (newPositionsById.putIfAbsent(newModels.get(i).id(), i) != LongIntMap.NO_VALUE) {
+        diffWithDiffUtil(oldModels, newModels, itemCallback, updateCallback);
+        return;
+      }
+    }
+
+    LongIntMap oldPositionsById = new LongIntMap(oldSize);
+    for (int i = 0; i < oldSize; i++) {
+      if (oldPositionsById.putIfAbsent(oldModels.get(i).id(), i) != LongIntMap.NO_VALUE) {
+        diffWithDiffUtil(oldModels, newModels, itemCallback, updateCallback);
+        return;
+      }
+    }
+
+    // The models that exist in both lists, in their old order, identified by their new position
+    int[] keptNewPositions = new int[Math.min(oldSize, newSize)];
+    int keptCount = 0;
+    // For each new position, the index of the model in the kept list, or -1 if it was inserted
+    int[] keptIndexByNewPosition = new int[newSize];
+    for (int i = 0; i < newSize; i++) {
+      keptIndexByNewPosition[i] = -1;
+    }
+
+    // Removals are reported from the end of the list so that earlier positions are unaffected
+    int removalEnd = -1;
+    for (int i = oldSize - 1; i >= 0; i--) {
+      if (newPositionsById.containsKey(oldModels.get(i).id())) {
+        if (removalEnd != -1) {
+          updateCallback.onRemoved(i + 1, removalEnd - i - 1);
+          removalEnd = -1;
+        }
+      } else if (removalEnd == -1) {
+        removalEnd = i + 1;
+      }
+    }
+    if (removalEnd != -1) {
+      updateCallback.onRemoved(0, removalEnd);
+    }
+
+    for (int i = 0; i < oldSize; i++) {
+      int newPosition = newPositionsById.get(oldModels.get(i).id());
+      if (newPosition != LongIntMap.NO_VALUE) {
+        keptIndexByNewPosition[newPosition] = keptCount;
+        keptNewPositions[keptCount++] = newPosition;
+      }
+    }
+
+    // Models in the longest increasing subsequence are already in the right order relative to each
+    // other, so they are left in place and all other kept models are moved around them.
+    boolean[] isAnchor = findLongestIncreasingSubsequence(keptNewPositions, keptCount);
+
+    // To know the current position of a model as models are inserted and moved, each model is
+    // given a slot in a fixed order and a Fenwick tree counts the occupied slots before it.
+    // Each kept model has a slot for its old location. Models that are inserted or moved get a
+    // slot right after the anchor that precedes them in the new list, so once every model is
+    // placed the occupied slots are in the new order.
+    int slotCount = 0;
+    int[] oldSlots = new int[keptCount];
+    int[] newSlots = new int[newSize];
+    int newPosition = 0;
+    while (newPosition < newSize && !isAnchorAt(newPosition, keptIndexByNewPosition, isAnchor)) {
+      newSlots[newPosition++] = slotCount++;
+    }
+    for (int k = 0; k < keptCount; k++) {
+      oldSlots[k] = slotCount++;
+      if (isAnchor[k]) {
+        newPosition = keptNewPositions[k] + 1;
+        while (newPosition < newSize
+            && !isAnchorAt(newPosition, keptIndexByNewPosition, isAnchor)) {
+          newSlots[newPosition++] = slotCount++;
+        }
+      }
+    }
+
+    int[] occupiedSlots = new int[slotCount + 1];
+    for (int k = 0; k < keptCount; k++) {
+      addToTree(occupiedSlots, oldSlots[k], 1);
+    }
+
+    int pendingInsertStart = -1;
+    int pendingInsertCount = 0;
+    for (int i = 0; i < newSize; i++) {
+      int keptIndex = keptIndexByNewPosition[i];
+      if (keptIndex == -1) {
+        int position = countOccupiedBefore(occupiedSlots, newSlots[i]);
+        addToTree(occupiedSlots, newSlots[i], 1);
+
+        if (pendingInsertStart != -1 && position == pendingInsertStart + pendingInsertCount) {
+          pendingInsertCount++;
+        } else {
+          if (pendingInsertStart != -1) {
+            updateCallback.onInserted(pendingInsertStart, pendingInsertCount);
+          }
+          pendingInsertStart = position;
+          pendingInsertCount = 1;
+        }
+      } else if (!isAnchor[keptIndex]) {
+        if (pendingInsertStart != -1) {
+          updateCallback.onInserted(pendingInsertStart, pendingInsertCount);
+          pendingInsertStart = -1;
+        }
+
+        int fromPosition = countOccupiedBefore(occupiedSlots, oldSlots[keptIndex]);
+        addToTree(occupiedSlots, oldSlots[keptIndex], -1);
+        int toPosition = countOccupiedBefore(occupiedSlots, newSlots[i]);
+        addToTree(occupiedSlots, newSlots[i], 1);
+
+        if (fromPosition != toPosition) {
+          updateCallback.onMoved(fromPosition, toPosition);
+        }
+      }
+    }
+    if (pendingInsertStart != -1) {
+      updateCallback.onInserted(pendingInsertStart, pendingInsertCount);
+    }
+
+    for (int i = 0; i < newSize; i++) {
+      if (keptIndexByNewPosition[i] == -1) {
+        continue;
+      }
+
+      EpoxyModel<?> oldModel = oldModels.get(oldPositionsById.get(newModels.get(i).id()));
+      EpoxyModel<?> newModel = newModels.get(i);
+      if (!itemCallback.areContentsTheSame(oldModel, newModel)) {
+        updateCallback.onChanged(i, 1, itemCallback.getChangePayload(oldModel, newModel));
+      }
+    }
+  }
+
+  private static boolean isAnchorAt(int newPosition, int[] keptIndexByNewPosition,
+      boolean[] isAnchor) {
+    int keptIndex = keptIndexByNewPosition[newPosition];
+    return keptIndex != -1 && isAnchor[keptIndex];
+  }
+
+  /**
+   * Finds a longest strictly increasing subsequence of the given values with patience sorting.
+   *
+   * @return For each index, whether the value at that index is part of the subsequence.
+   */
+  private static boolean[] findLongestIncreasingSubsequence(int[] values, int count) {
+    boolean[] inSubsequence = new boolean[count];
+    if (count == 0) {
+      return inSubsequence;
+    }
+
+    // Index of the smallest tail value of all increasing subsequences with length i + 1
+    int[] tails = new int[count];
+    // Index of the previous value in the subsequence that ends at each index
+    int[] previous = new int[count];
+    int length = 0;
+
+    for (int i = 0; i < count; i++) {
+      int value = values[i];
+      int low = 0;
+      int high = length;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (values[tails[mid]] < value) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+
+      previous[i] = low > 0 ? tails[low - 1] : -1;
+      tails[low] = i;
+      if (low == length) {
+        length++;
+      }
+    }
+
+    for (int i = tails[length - 1]; i != -1; i = previous[i]) {
+      inSubsequence[i] = true;
+    }
+    return inSubsequence;
+  }
+
+  private static void addToTree(int[] tree, int slot, int delta) {
+    for (int i = slot + 1; i < tree.length; i += i & -i) {
+      tree[i] += delta;
+    }
+  }
+
+  /** Returns the number of occupied slots before the given slot. */
+  private static int countOccupiedBefore(int[] tree, int slot) {
+    int count = 0;
+    for (int i = slot; i > 0; i -= i & -i) {
+      count += tree[i];
+    }
+    return count;
+  }
+
+  private static void diffWithDiffUtil(
+      List<? extends EpoxyModel<?>> oldModels,
+      List<? extends EpoxyModel<?>> newModels,
+      ItemCallback<EpoxyModel<?>> itemCallback,
+      ListUpdateCallback updateCallback
+  ) {
+    DiffUtil.calculateDiff(new AsyncEpoxyDiffer.DiffCallback(
+        oldModels, 0, oldModels.size(),
+        newModels, 0, newModels.size(),
+        itemCallback
+    )).dispatchUpdatesTo(updateCallback);
+  }
+}
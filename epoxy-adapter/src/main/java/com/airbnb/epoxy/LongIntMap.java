@@ -0,0 +1,94 @@
+package com.airbnb.epoxy;
+
+import java.util.Arrays;
+
+/**
+ * An open addressing hash map from a model id to a non negative int, such as the position of a
+ * model in a list. This avoids boxing ids and values and allocating an entry per model.
+ * <p>
+ * The map is sized once for the number of entries it will hold, since it is always built from a
+ * list of known size, and entries are never replaced or removed.
+ */
+class LongIntMap {
+  /** Returned when the map has no value for a key. */
+  static final int NO_VALUE = -1;
+
+  private static final int MIN_CAPACITY = 16;
+  /** The map is kept at most half full to keep probe sequences short. */
+  private static final float LOAD_FACTOR = 0.5f;
+
+  private final long[] keys;
+  /** An empty slot is marked with {@link #NO_VALUE}. */
+  private final int[] values;
+  private final int mask;
+  private final int maxSize;
+  private int size;
+
+  /** @param maxSize The maximum number of entries that will be added to the map. */
+  LongIntMap(int maxSize) {
+    int capacity = MIN_CAPACITY;
+    while (capacity * LOAD_FACTOR < maxSize) {
+      capacity <<= 1;
+    }
+
+    keys = new long[capacity];
+    values = new int[capacity];
+    Arrays.fill(values, NO_VALUE);
+    mask = capacity - 1;
+    this.maxSize = maxSize;
+  }
+
+  /** @return The value for the key, or {@link #NO_VALUE} if the map doesn't contain the key. */
+  int get(long key) {
+    int index = hash(key) & mask;
+    int value;
+    while ((value = values[index]) != NO_VALUE) {
+      if (keys[index] == key) {
+        return value;
+      }
+      index = (index + 1) & mask;
+    }
+    return NO_VALUE;
+  }
+
+  boolean containsKey(long key) {
+    return get(key) != NO_VALUE;
+  }
+
+  /**
+   * Associates the value with the key only if the map doesn't contain the key yet.
+   *
+   * @param value Must not be negative.
+   * @return The value already stored for this key, in which case the map is unchanged, or {@link
+   * #NO_VALUE} if the value was added.
+   */
+  int putIfAbsent(long key, int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Negative values are not supported: " + value);
+    }
+
+    int index = hash(key) & mask;
+    int previous;
+    while ((previous = values[index]) != NO_VALUE) {
+      if (keys[index] == key) {
+        return previous;
+      }
+      index = (index + 1) & mask;
+    }
+
+    if (size == maxSize) {
+      throw new IllegalStateException("The map already has its maximum of " + maxSize
+          + " entries");
+    }
+    keys[index] = key;
+    values[index] = value;
+    size++;
+    return NO_VALUE;
+  }
+
+  /** Mixes the id bits so that sequential ids don't cluster in the low bits used for the slot. */
+  private static int hash(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+}
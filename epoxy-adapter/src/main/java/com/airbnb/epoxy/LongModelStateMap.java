@@ -0,0 +1,185 @@
+package com.airbnb.epoxy;
+
+import java.util.Arrays;
+
+import androidx.annotation.Nullable;
+
+/**
+ * An open addressing hash map from a model id to its {@link ModelState}, used by {@link
+ * DiffHelper} so that model ids don't need to be boxed and no map entry has to be allocated for
+ * each model on every diff.
+ * <p>
+ * Clearing the map keeps the backing arrays, so once the map has grown to fit the models it can be
+ * reused for every following diff without allocating.
+ * <p>
+ * Null values are not supported, an empty slot is marked by a null value.
+ */
+class LongModelStateMap {
+  private static final int MIN_CAPACITY = 16;
+  /** Resize once the map is more than half full to keep probe sequences short. */
+  private static final float LOAD_FACTOR = 0.5f;
+
+  private long[] keys;
+  private ModelState[] values;
+  private int mask;
+  private int size;
+  private int resizeThreshold;
+
+  LongModelStateMap() {
+    this(MIN_CAPACITY);
+  }
+
+  LongModelStateMap(int expectedSize) {
+    allocate(capacityFor(expectedSize));
+  }
+
+  int size() {
+    return size;
+  }
+
+  @Nullable
+  ModelState get(long key) {
+    int index = indexOf(key);
+    return index < 0 ? null : values[index];
+  }
+
+  /**
+   * Associates the given state with the key.
+   *
+   * @return The state previously stored for this key, or null if there was none.
+   */
+  @Nullable
+  ModelState put(long key, ModelState value) {
+    if (value == null) {
+      throw new IllegalArgumentException("Null values are not supported");
+    }
+
+    int index = hash(key) & mask;
+    while (values[index] != null) {
+      if (keys[index] == key) {
+        ModelState previous = values[index];
+        values[index] = value;
+        return previous;
+      }
+      index = (index + 1) & mask;
+    }
+
+    keys[index] = key;
+    values[index] = value;
+    if (++size > resizeThreshold) {
+      resize(keys.length * 2);
+    }
+    return null;
+  }
+
+  /**
+   * Removes the state for the given key.
+   *
+   * @return The removed state, or null if no state was stored for this key.
+   */
+  @Nullable
+  ModelState remove(long key) {
+    int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+
+    ModelState removed = values[index];
+    values[index] = null;
+    size--;
+
+    // Shift back any following entries in the probe sequence so that lookups don't stop early at
+    // the slot we just emptied. This avoids the need for tombstones.
+    int gap = index;
+    int next = (gap + 1) & mask;
+    while (values[next] != null) {
+      int ideal = hash(keys[next]) & mask;
+      // Move the entry into the gap if its ideal slot is not between the gap and its current slot
+      if (((next - ideal) & mask) >= ((next - gap) & mask)) {
+        keys[gap] = keys[next];
+        values[gap] = values[next];
+        values[next] = null;
+        gap = next;
+      }
+      next = (next + 1) & mask;
+    }
+
+    return removed;
+  }
+
+  /** Removes all entries while keeping the backing arrays for reuse. */
+  void clear() {
+    if (size == 0) {
+      return;
+    }
+    Arrays.fill(values, null);
+    size = 0;
+  }
+
+  /**
+   * Grows the backing arrays if needed so that the given number of entries can be added without
+   * resizing.
+   */
+  void ensureCapacity(int expectedSize) {
+    int capacity = capacityFor(expectedSize);
+    if (capacity > keys.length) {
+      resize(capacity);
+    }
+  }
+
+  private int indexOf(long key) {
+    int index = hash(key) & mask;
+    ModelState value;
+    while ((value = values[index]) != null) {
+      if (keys[index] == key) {
+        return index;
+      }
+      index = (index + 1) & mask;
+    }
+    return -1;
+  }
+
+  private void resize(int newCapacity) {
+    long[] oldKeys = keys;
+    ModelState[] oldValues = values;
+    allocate(newCapacity);
+
+    for (int i = 0; i < oldValues.length; i++) {
+      ModelState value = oldValues[i];
+      if (value == null) {
+        continue;
+      }
+
+      int index = hash(oldKeys[i]) & mask;
+      while (values[index] != null) {
+        index = (index + 1) & mask;
+      }
+      keys[index] = oldKeys[i];
+      values[index] = value;
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new ModelState[capacity];
+    mask = capacity - 1;
+    resizeThreshold = (int) (capacity * LOAD_FACTOR);
+  }
+
+  private static int capacityFor(int expectedSize) {
+    int capacity = MIN_CAPACITY;
+    while (capacity * LOAD_FACTOR < expectedSize) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  /**
+   * Ids are often small sequential numbers (eg from {@link EpoxyModel#id(long)} with an index), so
+   * the bits are mixed to avoid clustering in the low bits used for the slot index.
+   */
+  private static int hash(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+}
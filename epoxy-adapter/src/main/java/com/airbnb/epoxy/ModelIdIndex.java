@@ -0,0 +1,99 @@
+package com.airbnb.epoxy;
+
+import java.util.Collections;
+import java.util.List;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Finds the position of a model in a list by its id in constant time. The index keeps the list it
+ * was built for, so a lookup never mixes the positions of one list with the models of another.
+ * <p>
+ * The positions are usually built on the thread that diffs the list, before the list is latched.
+ * If they weren't, they are built on the first lookup. If models share an id the first one is
+ * found, the same as a linear search.
+ * <p>
+ * The index of a {@link MovedModelList} reuses the index of the list before the move and adjusts
+ * each position for the move, so moving a model doesn't rebuild the index. If models share an id
+ * this finds the model that was first before the move.
+ */
+final class ModelIdIndex {
+  static final ModelIdIndex EMPTY =
+      new ModelIdIndex(Collections.<EpoxyModel<?>>emptyList(), true);
+
+  private final List<? extends EpoxyModel<?>> models;
+  /**
+   * Never changed once it is set, so it can be read from any thread. Two threads may build it at
+   * the same time, but the result is the same.
+   */
+  @Nullable private volatile LongIntMap positionsById;
+  /** If the models are a {@link MovedModelList}, the index of the list before the move. */
+  @Nullable private final ModelIdIndex unmovedIndex;
+
+  /**
+   * @param models     Must not be changed after the index is created.
+   * @param buildNow   True to build the positions now, otherwise they are built on first use.
+   */
+  ModelIdIndex(List<? extends EpoxyModel<?>> models, boolean buildNow) {
+    this.models = models;
+    unmovedIndex = null;
+    if (buildNow) {
+      positionsById = buildPositions(models);
+    }
+  }
+
+  private ModelIdIndex(MovedModelList models, ModelIdIndex unmovedIndex) {
+    this.models = models;
+    this.unmovedIndex = unmovedIndex;
+  }
+
+  /**
+   * @param previousIndex The index of the list that the models were moved from. It is reused if
+   *                      the moved models are a view of the same list.
+   */
+  static ModelIdIndex forMove(ModelIdIndex previousIndex, MovedModelList models) {
+    ModelIdIndex unmovedIndex =
+        previousIndex.unmovedIndex != null ? previousIndex.unmovedIndex : previousIndex;
+    if (!unmovedIndex.isFor(models.getUnmovedModels())) {
+      // A different model was moved, so the moved models are a view of a new copy
+      unmovedIndex = new ModelIdIndex(models.getUnmovedModels(), false);
+    }
+    return new ModelIdIndex(models, unmovedIndex);
+  }
+
+  /** @return The position of the first model with the id, or -1 if there is none. */
+  int getPosition(long id) {
+    if (unmovedIndex != null) {
+      int unmovedPosition = unmovedIndex.getPosition(id);
+      return unmovedPosition == LongIntMap.NO_VALUE
+          ? LongIntMap.NO_VALUE
+          : ((MovedModelList) models).getMovedPosition(unmovedPosition);
+    }
+
+    LongIntMap positions = positionsById;
+    if (positions == null) {
+      positions = buildPositions(models);
+      positionsById = positions;
+    }
+    return positions.get(id);
+  }
+
+  @Nullable
+  EpoxyModel<?> getModel(long id) {
+    int position = getPosition(id);
+    return position == LongIntMap.NO_VALUE ? null : models.get(position);
+  }
+
+  boolean isFor(@Nullable List<? extends EpoxyModel<?>> list) {
+    return models == list;
+  }
+
+  private static LongIntMap buildPositions(List<? extends EpoxyModel<?>> models) {
+    int size = models.size();
+    LongIntMap positions = new LongIntMap(size);
+    for (int i = 0; i < size; i++) {
+      positions.putIfAbsent(models.get(i).id(), i);
+    }
+    return positions;
+  }
+}
@@ -0,0 +1,272 @@
+package com.airbnb.epoxy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Records how long view holders take to create, bind and unbind for each model class, so the
+ * slowest models can be found, for example from sampled production sessions. Set it on an
+ * adapter with {@link BaseEpoxyAdapter#setModelLatencyProfiler(ModelLatencyProfiler)}, which works
+ * for both {@link EpoxyAdapter} and {@link EpoxyController#getAdapter()}. It doesn't use the
+ * controller's {@link EpoxyMetricsListener}, so both can be set. The same profiler can be shared by
+ * several adapters.
+ * <p>
+ * Binds are split into full binds, and diff binds where the view was updated from the model it
+ * previously showed. Durations are kept in fixed size histograms with logarithmic buckets, so
+ * memory use doesn't grow with the number of samples. Percentiles are accurate to within 25%.
+ * Recording is lock free.
+ * <p>
+ * Use {@link #snapshot()} to read the current stats, or {@link #dump()} for a readable summary.
+ */
+public class ModelLatencyProfiler {
+
+  /** The operations that are timed for each model class. */
+  public enum Operation {
+    CREATE,
+    FULL_BIND,
+    DIFF_BIND,
+    UNBIND
+  }
+
+  private static final Operation[] OPERATIONS = Operation.values();
+
+  private final ConcurrentHashMap<Class<?>, Histogram[]> histogramsByClass =
+      new ConcurrentHashMap<>();
+
+  /** Record a duration. This is safe to call from any thread. */
+  public void record(@NonNull Class<?> modelClass, @NonNull Operation operation,
+      long durationNs) {
+    Histogram[] histograms = histogramsByClass.get(modelClass);
+    if (histograms == null) {
+      histograms = new Histogram[OPERATIONS.length];
+      for (int i = 0; i < histograms.length; i++) {
+        histograms[i] = new Histogram();
+      }
+
+      // Another thread may have added the class in the meantime
+      Histogram[] existing = histogramsByClass.putIfAbsent(modelClass, histograms);
+      if (existing != null) {
+        histograms = existing;
+      }
+    }
+
+    histograms[operation.ordinal()].record(durationNs);
+  }
+
+  /** Clears all recorded durations. */
+  public void reset() {
+    histogramsByClass.clear();
+  }
+
+  /**
+   * Returns the stats for each model class that has recorded durations, sorted by the total time
+   * spent creating and binding views, with the most expensive class first.
+   */
+  @NonNull
+  public List<ModelStats> snapshot() {
+    List<ModelStats> stats = new ArrayList<>(histogramsByClass.size());
+    for (Map.Entry<Class<?>, Histogram[]> entry : histogramsByClass.entrySet()) {
+      Histogram[] histograms = entry.getValue();
+      LatencyStats[] latencies = new LatencyStats[histograms.length];
+      for (int i = 0; i < histograms.length; i++) {
+        latencies[i] = histograms[i].snapshot();
+      }
+      stats.add(new ModelStats(entry.getKey(), latencies));
+    }
+
+    Collections.sort(stats, new Comparator<ModelStats>() {
+      @Override
+      public int compare(ModelStats first, ModelStats second) {
+        return compareLongs(second.getCreateAndBindTimeNs(), first.getCreateAndBindTimeNs());
+      }
+    });
+    return stats;
+  }
+
+  /** Returns a readable summary of {@link #snapshot()}, with one line per model class. */
+  @NonNull
+  public String dump() {
+    StringBuilder builder = new StringBuilder();
+    for (ModelStats stats : snapshot()) {
+      builder.append(stats.getModelClass().getSimpleName());
+      for (Operation operation : OPERATIONS) {
+        LatencyStats latency = stats.get(operation);
+        if (latency.getCount() == 0) {
+          continue;
+        }
+
+        builder.append(String.format(Locale.US,
+            " %s[n=%d p50=%.1fus p90=%.1fus p99=%.1fus max=%.1fus]",
+            operation.name().toLowerCase(Locale.US),
+            latency.getCount(),
+            latency.getPercentileNs(50) / 1000f,
+            latency.getPercentileNs(90) / 1000f,
+            latency.getPercentileNs(99) / 1000f,
+            latency.getMaxNs() / 1000f));
+      }
+      builder.append('\n');
+    }
+    return builder.toString();
+  }
+
+  private static int compareLongs(long first, long second) {
+    return first < second ? -1 : (first == second ? 0 : 1);
+  }
+
+  /** The recorded latencies of one model class. */
+  public static final class ModelStats {
+    private final Class<?> modelClass;
+    private final LatencyStats[] latencies;
+
+    ModelStats(Class<?> modelClass, LatencyStats[] latencies) {
+      this.modelClass = modelClass;
+      this.latencies = latencies;
+    }
+
+    @NonNull
+    public Class<?> getModelClass() {
+      return modelClass;
+    }
+
+    @NonNull
+    public LatencyStats get(@NonNull Operation operation) {
+      return latencies[operation.ordinal()];
+    }
+
+    long getCreateAndBindTimeNs() {
+      return get(Operation.CREATE).getTotalNs()
+          + get(Operation.FULL_BIND).getTotalNs()
+          + get(Operation.DIFF_BIND).getTotalNs();
+    }
+  }
+
+  /** The recorded durations of one operation. */
+  public static final class LatencyStats {
+    private final int[] bucketCounts;
+    private final long count;
+    private final long totalNs;
+    private final long maxNs;
+
+    LatencyStats(int[] bucketCounts, long count, long totalNs, long maxNs) {
+      this.bucketCounts = bucketCounts;
+      this.count = count;
+      this.totalNs = totalNs;
+      this.maxNs = maxNs;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public long getTotalNs() {
+      return totalNs;
+    }
+
+    public long getMaxNs() {
+      return maxNs;
+    }
+
+    public long getAverageNs() {
+      return count == 0 ? 0 : totalNs / count;
+    }
+
+    /**
+     * Returns an upper bound for the given percentile of the recorded durations, or 0 if nothing
+     * was recorded.
+     *
+     * @param percentile Between 0 and 100.
+     */
+    public long getPercentileNs(double percentile) {
+      long sampleCount = 0;
+      for (int bucketCount : bucketCounts) {
+        sampleCount += bucketCount;
+      }
+      if (sampleCount == 0) {
+        return 0;
+      }
+
+      long rank = Math.max(1, (long) Math.ceil(percentile / 100 * sampleCount));
+      long seen = 0;
+      for (int i = 0; i < bucketCounts.length; i++) {
+        seen += bucketCounts[i];
+        if (seen >= rank) {
+          return Math.min(Histogram.bucketUpperBound(i), maxNs);
+        }
+      }
+      return maxNs;
+    }
+  }
+
+  /**
+   * A histogram with four buckets for each power of two. Counts are updated atomically, so it can
+   * be recorded to from several threads without locking.
+   */
+  private static final class Histogram {
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Covers durations up to about 18 minutes, longer ones go in the last bucket. */
+    private static final int MAX_POWER_OF_TWO = 40;
+    private static final int BUCKET_COUNT = MAX_POWER_OF_TWO * SUB_BUCKETS;
+
+    private final AtomicIntegerArray counts = new AtomicIntegerArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNs = new AtomicLong();
+    private final AtomicLong maxNs = new AtomicLong();
+
+    void record(long durationNs) {
+      if (durationNs < 0) {
+        durationNs = 0;
+      }
+
+      counts.incrementAndGet(bucketFor(durationNs));
+      count.incrementAndGet();
+      totalNs.addAndGet(durationNs);
+
+      long max;
+      while ((max = maxNs.get()) < durationNs) {
+        if (maxNs.compareAndSet(max, durationNs)) {
+          break;
+        }
+      }
+    }
+
+    LatencyStats snapshot() {
+      int[] bucketCounts = new int[BUCKET_COUNT];
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        bucketCounts[i] = counts.get(i);
+      }
+      return new LatencyStats(bucketCounts, count.get(), totalNs.get(), maxNs.get());
+    }
+
+    static int bucketFor(long durationNs) {
+      if (durationNs < SUB_BUCKETS) {
+        return (int) durationNs;
+      }
+
+      int powerOfTwo = 63 - Long.numberOfLeadingZeros(durationNs);
+      // The bits after the highest one bit select the sub bucket
+      int subBucket = (int) (durationNs >>> (powerOfTwo - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+      int bucket = (powerOfTwo - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+      return Math.min(bucket, BUCKET_COUNT - 1);
+    }
+
+    static long bucketUpperBound(int bucket) {
+      if (bucket < SUB_BUCKETS) {
+        return bucket;
+      }
+
+      int powerOfTwo = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+      int subBucket = bucket % SUB_BUCKETS;
+      return ((long) (SUB_BUCKETS + subBucket + 1) << (powerOfTwo - SUB_BUCKET_BITS)) - 1;
+    }
+  }
+}
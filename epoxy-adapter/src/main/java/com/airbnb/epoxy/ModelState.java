@@ -24,33 +24,43 @@ class ModelState {
    */
   int lastMoveOp;
 
-  static ModelState build(EpoxyModel<?> model, int position, boolean immutableModel) {
-    ModelState state = new ModelState();
-
-    state.lastMoveOp = 0;
-    state.pair = null;
-    state.id = model.id();
-    state.position = position;
+  /**
+   * Initializes this state for the given model. This allows state objects to be reused across
+   * diffs instead of allocating a new one for each model.
+   */
+  void set(EpoxyModel<?> model, int position, boolean immutableModel) {
+    lastMoveOp = 0;
+    pair = null;
+    id = model.id();
+    this.position = position;
 
     if (immutableModel) {
-      state.model = model;
+      this.model = model;
+      hashCode = 0;
     } else {
-      state.hashCode = model.hashCode();
+      this.model = null;
+      hashCode = model.hashCode();
     }
+  }
 
-    return state;
+  /** Drops references held by this state so that it can be recycled without leaking models. */
+  void recycle() {
+    pair = null;
+    model = null;
   }
 
   /**
    * Used for an item inserted into the new list when we need to track moves that effect the
    * inserted item in the old list.
+   *
+   * @param pairState An unused state object that will be initialized as the pair of this item.
    */
-  void pairWithSelf() {
+  void pairWithSelf(ModelState pairState) {
     if (pair != null) {
       throw new IllegalStateException("Already paired.");
     }
 
-    pair = new ModelState();
+    pair = pairState;
     pair.lastMoveOp = 0;
     pair.id = id;
     pair.position = position;
@@ -0,0 +1,100 @@
+package com.airbnb.epoxy;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable view of a model list with one model moved to a new position. Moving a model this
+ * way doesn't copy the list, and the original list is left unchanged for anything still reading
+ * it.
+ * <p>
+ * While an item is dragged the same model is moved on every swap. Each of those moves replaces
+ * the view with a new one over the same unmoved list, so a move and each lookup take constant time
+ * no matter how long the drag is. Only when a different model is moved is the previous move copied
+ * into a new list, which happens once at the start of each drag after the first.
+ */
+final class MovedModelList extends AbstractList<EpoxyModel<?>> implements RandomAccess {
+  /** The list before the move. This is never a MovedModelList. */
+  private final List<? extends EpoxyModel<?>> unmovedModels;
+  private final int fromPosition;
+  private final int toPosition;
+
+  /**
+   * @param models Must not be changed after this is called. It is not copied.
+   * @return An immutable list of the models with the model at fromPosition moved to toPosition.
+   */
+  static MovedModelList move(List<? extends EpoxyModel<?>> models, int fromPosition,
+      int toPosition) {
+    if (models instanceof MovedModelList) {
+      MovedModelList movedModels = (MovedModelList) models;
+      if (fromPosition == movedModels.toPosition) {
+        // The model that was last moved is moved again, such as on each swap of a drag
+        return new MovedModelList(movedModels.unmovedModels, movedModels.fromPosition,
+            toPosition);
+      }
+      models = new ArrayList<>(models);
+    }
+    return new MovedModelList(models, fromPosition, toPosition);
+  }
+
+  private MovedModelList(List<? extends EpoxyModel<?>> unmovedModels, int fromPosition,
+      int toPosition) {
+    int size = unmovedModels.size();
+    if (fromPosition < 0 || fromPosition >= size || toPosition < 0 || toPosition >= size) {
+      throw new IndexOutOfBoundsException(
+          "Can't move from " + fromPosition + " to " + toPosition + " in a list of size " + size);
+    }
+
+    this.unmovedModels = unmovedModels;
+    this.fromPosition = fromPosition;
+    this.toPosition = toPosition;
+  }
+
+  /** The list this is a view of, without the move. */
+  List<? extends EpoxyModel<?>> getUnmovedModels() {
+    return unmovedModels;
+  }
+
+  /** @return The position in this list of the model at the given position of the unmoved list. */
+  int getMovedPosition(int unmovedPosition) {
+    if (unmovedPosition == fromPosition) {
+      return toPosition;
+    }
+
+    if (fromPosition < toPosition && unmovedPosition > fromPosition
+        && unmovedPosition <= toPosition) {
+      return unmovedPosition - 1;
+    }
+
+    if (fromPosition > toPosition && unmovedPosition >= toPosition
+        && unmovedPosition < fromPosition) {
+      return unmovedPosition + 1;
+    }
+
+    return unmovedPosition;
+  }
+
+  @Override
+  public EpoxyModel<?> get(int index) {
+    if (index == toPosition) {
+      return unmovedModels.get(fromPosition);
+    }
+
+    if (fromPosition < toPosition && index >= fromPosition && index < toPosition) {
+      return unmovedModels.get(index + 1);
+    }
+
+    if (fromPosition > toPosition && index > toPosition && index <= fromPosition) {
+      return unmovedModels.get(index - 1);
+    }
+
+    return unmovedModels.get(index);
+  }
+
+  @Override
+  public int size() {
+    return unmovedModels.size();
+  }
+}
@@ -0,0 +1,88 @@
+package com.airbnb.epoxy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.ListUpdateCallback;
+
+/**
+ * Records the updates reported by an {@link EpoxyDiffStrategy} on the diffing thread, so they can
+ * be dispatched to the adapter later on the main thread.
+ */
+class RecordedListUpdates implements ListUpdateCallback {
+  private static final int INSERTED = 0;
+  private static final int REMOVED = 1;
+  private static final int MOVED = 2;
+  private static final int CHANGED = 3;
+
+  /** Each update is stored as three ints: the type and its two arguments. */
+  private int[] updates = new int[30];
+  private int updateCount;
+  /** Payloads of change updates, in the order they were reported. */
+  private final List<Object> payloads = new ArrayList<>();
+
+  int size() {
+    return updateCount;
+  }
+
+  @Override
+  public void onInserted(int position, int count) {
+    record(INSERTED, position, count);
+  }
+
+  @Override
+  public void onRemoved(int position, int count) {
+    record(REMOVED, position, count);
+  }
+
+  @Override
+  public void onMoved(int fromPosition, int toPosition) {
+    record(MOVED, fromPosition, toPosition);
+  }
+
+  @Override
+  public void onChanged(int position, int count, @Nullable Object payload) {
+    record(CHANGED, position, count);
+    payloads.add(payload);
+  }
+
+  private void record(int type, int first, int second) {
+    int index = updateCount * 3;
+    if (index + 3 > updates.length) {
+      updates = Arrays.copyOf(updates, updates.length * 2);
+    }
+
+    updates[index] = type;
+    updates[index + 1] = first;
+    updates[index + 2] = second;
+    updateCount++;
+  }
+
+  void dispatchTo(ListUpdateCallback callback) {
+    int payloadIndex = 0;
+    for (int i = 0; i < updateCount; i++) {
+      int index = i * 3;
+      int first = updates[index + 1];
+      int second = updates[index + 2];
+
+      switch (updates[index]) {
+        case INSERTED:
+          callback.onInserted(first, second);
+          break;
+        case REMOVED:
+          callback.onRemoved(first, second);
+          break;
+        case MOVED:
+          callback.onMoved(first, second);
+          break;
+        case CHANGED:
+          callback.onChanged(first, second, payloads.get(payloadIndex++));
+          break;
+        default:
+          throw new IllegalStateException("Unknown update type: " + updates[index]);
+      }
+    }
+  }
+}
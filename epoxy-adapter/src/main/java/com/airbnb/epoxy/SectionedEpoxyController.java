@@ -0,0 +1,358 @@
+package com.airbnb.epoxy;
+
+import android.os.Handler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * An {@link EpoxyController} whose models are split into independent sections that are built in
+ * parallel. This can reduce the time to build models for complex screens, since each section is
+ * built on its own thread instead of all models being built serially in {@link #buildModels()}.
+ * <p>
+ * Implement {@link #buildSections()} and call {@link #addSection(String, Section)} for each
+ * section, in the order the sections should be shown. Each section is then built on the section
+ * build executor, and once all sections are finished their models are added to the controller in
+ * order. Interceptors and duplicate filtering are run on the combined models as usual.
+ * <p>
+ * Sections are built concurrently, so they must only read data that is safe to access from
+ * multiple threads, and must add their models to the {@link ModelCollector} they are given instead
+ * of to the controller. {@link AutoModel} fields and implicit adding are not supported.
+ * <p>
+ * If only some sections need to change, call {@link #requestSectionRebuild(String)} instead of
+ * {@link #requestModelBuild()}. Only the sections marked this way are rebuilt, and all other
+ * sections reuse the exact model instances from the previous build, which also makes them trivial
+ * to diff. Since those models are added again, interceptors must not modify them.
+ */
+public abstract class SectionedEpoxyController extends EpoxyController {
+  /** The initial capacity of the list a new section's models are collected into. */
+  private static final int DEFAULT_SECTION_MODEL_COUNT = 10;
+
+  /** Builds the models for one independent part of the controller's models. */
+  public interface Section {
+    /**
+     * Add the models for this section to the given collector, in the order they should be shown.
+     * This is called on the section build executor and may run at the same time as other
+     * sections, so it must not call methods on the controller.
+     */
+    void buildModels(@NonNull ModelCollector models);
+  }
+
+  /*
+   * These fields are only used on the model building thread, while sections are being declared.
+   */
+  private final List<String> sectionKeys = new ArrayList<>();
+  private final List<Section> sections = new ArrayList<>();
+  private final Set<String> sectionKeySet = new HashSet<>();
+  /** The models each section built in the last successful build, used for clean sections. */
+  private Map<String, ControllerModelList> previousModelsBySection = new HashMap<>();
+
+  /** Sections marked with {@link #requestSectionRebuild(String)}. Guarded by itself. */
+  private final Set<String> dirtySectionKeys = new HashSet<>();
+  /** Whether the next build must rebuild every section. Guarded by {@link #dirtySectionKeys}. */
+  private boolean allSectionsDirty = true;
+
+  // Volatile because -> write on any thread, read from builder thread
+  @Nullable private volatile Executor sectionBuildExecutor = DefaultExecutorHolder.EXECUTOR;
+
+  public SectionedEpoxyController() {
+  }
+
+  public SectionedEpoxyController(Handler modelBuildingHandler, Handler diffingHandler) {
+    super(modelBuildingHandler, diffingHandler);
+  }
+
+  /**
+   * Set the executor that sections are built on. By default a shared thread pool sized to the
+   * number of available cores is used. The model building thread always builds one of the sections
+   * itself while it waits for the others.
+   *
+   * @param executor The executor to build sections on, or null to build all sections serially on
+   *                 the model building thread.
+   */
+  public void setSectionBuildExecutor(@Nullable Executor executor) {
+    sectionBuildExecutor = executor;
+  }
+
+  @Nullable
+  public Executor getSectionBuildExecutor() {
+    return sectionBuildExecutor;
+  }
+
+  /**
+   * Request that only the section with the given key is rebuilt. Other sections that are not
+   * marked for a rebuild reuse the models they built last time. This schedules a model build like
+   * {@link #requestModelBuild()}.
+   */
+  public void requestSectionRebuild(@NonNull String key) {
+    synchronized (dirtySectionKeys) {
+      dirtySectionKeys.add(key);
+    }
+
+    // The overrides below would mark all sections
+    requestModelBuildWithoutOverrides();
+  }
+
+  /** Rebuilds all sections. Use {@link #requestSectionRebuild(String)} to rebuild just one. */
+  @Override
+  public void requestModelBuild() {
+    markAllSectionsDirty();
+    super.requestModelBuild();
+  }
+
+  /** Rebuilds all sections. Use {@link #requestSectionRebuild(String)} to rebuild just one. */
+  @Override
+  public void requestDelayedModelBuild(int delayMs) {
+    markAllSectionsDirty();
+    super.requestDelayedModelBuild(delayMs);
+  }
+
+  private void markAllSectionsDirty() {
+    synchronized (dirtySectionKeys) {
+      allSectionsDirty = true;
+    }
+  }
+
+  /**
+   * Subclasses should implement this to declare the sections of the controller with {@link
+   * #addSection(String, Section)}, in the order they should be shown. This is called on the model
+   * building thread each time models are built.
+   * <p>
+   * You CANNOT call this method directly. Instead, call {@link #requestModelBuild()} to have the
+   * controller schedule an update.
+   */
+  protected abstract void buildSections();
+
+  /**
+   * Declare a section of models. Can only be called from inside {@link #buildSections()}.
+   *
+   * @param key A key that uniquely identifies this section in the controller.
+   */
+  protected void addSection(@NonNull String key, @NonNull Section section) {
+    if (!isBuildingModels()) {
+      throw new IllegalEpoxyUsage("Can only call this when inside the `buildSections` method");
+    }
+
+    if (!sectionKeySet.add(key)) {
+      throw new IllegalEpoxyUsage("Two sections have the same key. Keys must be unique: " + key);
+    }
+
+    sectionKeys.add(key);
+    sections.add(section);
+  }
+
+  @Override
+  protected final void buildModels() {
+    boolean rebuildAllSections;
+    Set<String> sectionsToRebuild;
+    synchronized (dirtySectionKeys) {
+      rebuildAllSections = allSectionsDirty;
+      sectionsToRebuild = new HashSet<>(dirtySectionKeys);
+      allSectionsDirty = false;
+      dirtySectionKeys.clear();
+    }
+
+    boolean succeeded = false;
+    try {
+      buildSections();
+
+      ControllerModelList[] sectionModels =
+          buildSectionModels(rebuildAllSections, sectionsToRebuild);
+
+      Map<String, ControllerModelList> modelsBySection = new HashMap<>(sectionModels.length);
+      for (int i = 0; i < sectionModels.length; i++) {
+        add(sectionModels[i]);
+        modelsBySection.put(sectionKeys.get(i), sectionModels[i]);
+      }
+
+      // Sections that were not declared in this build are dropped from the cache
+      previousModelsBySection = modelsBySection;
+      succeeded = true;
+    } finally {
+      if (!succeeded) {
+        // The dirty sections were consumed by this build, so the next build can't rely on the
+        // previous models being up to date
+        markAllSectionsDirty();
+      }
+
+      // Cleared so that sections and their data aren't kept in memory between builds
+      sectionKeys.clear();
+      sections.clear();
+      sectionKeySet.clear();
+    }
+  }
+
+  private ControllerModelList[] buildSectionModels(boolean rebuildAllSections,
+      Set<String> sectionsToRebuild) {
+    int sectionCount = sections.size();
+    ControllerModelList[] sectionModels = new ControllerModelList[sectionCount];
+    // Indexed by section, null for clean sections that reuse their previous models
+    SectionBuildTask[] tasks = new SectionBuildTask[sectionCount];
+    int taskCount = 0;
+
+    for (int i = 0; i < sectionCount; i++) {
+      String key = sectionKeys.get(i);
+      ControllerModelList previousModels = previousModelsBySection.get(key);
+
+      if (previousModels != null && !rebuildAllSections && !sectionsToRebuild.contains(key)) {
+        sectionModels[i] = previousModels;
+      } else {
+        int expectedModelCount =
+            previousModels != null ? previousModels.size() : DEFAULT_SECTION_MODEL_COUNT;
+        tasks[i] = new SectionBuildTask(sections.get(i), expectedModelCount);
+        taskCount++;
+      }
+    }
+
+    Executor executor = sectionBuildExecutor;
+    if (executor == null || taskCount < 2) {
+      for (SectionBuildTask task : tasks) {
+        if (task != null) {
+          task.run();
+        }
+      }
+    } else {
+      // One section is built on this thread, since it would otherwise be idle while waiting
+      CountDownLatch remainingSections = new CountDownLatch(taskCount - 1);
+      SectionBuildTask taskForThisThread = null;
+      for (SectionBuildTask task : tasks) {
+        if (task == null) {
+          continue;
+        }
+
+        if (taskForThisThread == null) {
+          taskForThisThread = task;
+          continue;
+        }
+
+        task.completionLatch = remainingSections;
+        try {
+          executor.execute(task);
+        } catch (RejectedExecutionException e) {
+          task.run();
+        }
+      }
+
+      taskForThisThread.run();
+      awaitUninterruptibly(remainingSections);
+    }
+
+    for (int i = 0; i < sectionCount; i++) {
+      SectionBuildTask task = tasks[i];
+      if (task == null) {
+        continue;
+      }
+
+      Throwable error = task.error;
+      if (error instanceof RuntimeException) {
+        throw (RuntimeException) error;
+      } else if (error instanceof Error) {
+        throw (Error) error;
+      } else if (error != null) {
+        throw new IllegalStateException(
+            "Failed to build section " + sectionKeys.get(i), error);
+      }
+
+      // The models may be reused by later builds, so they must not be changed
+      task.models.freeze();
+      sectionModels[i] = task.models;
+    }
+
+    return sectionModels;
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    // Sections that are still running would keep writing to their model lists if we stopped
+    // waiting, so an interrupt is deferred until all sections are done.
+    boolean interrupted = false;
+    while (true) {
+      try {
+        latch.await();
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static final class SectionBuildTask implements Runnable, ModelCollector {
+    private final Section section;
+    final ControllerModelList models;
+    @Nullable CountDownLatch completionLatch;
+    @Nullable Throwable error;
+
+    SectionBuildTask(Section section, int expectedModelCount) {
+      this.section = section;
+      models = new ControllerModelList(expectedModelCount);
+    }
+
+    @Override
+    public void add(@NonNull EpoxyModel<?> model) {
+      models.add(model);
+    }
+
+    @Override
+    public void run() {
+      try {
+        section.buildModels(this);
+      } catch (Throwable throwable) {
+        error = throwable;
+      } finally {
+        if (completionLatch != null) {
+          completionLatch.countDown();
+        }
+      }
+    }
+  }
+
+  /** Lazily creates the default executor the first time a sectioned controller is created. */
+  private static final class DefaultExecutorHolder {
+    private static final long KEEP_ALIVE_SECONDS = 30;
+    static final Executor EXECUTOR = createExecutor();
+
+    private static Executor createExecutor() {
+      // The model building thread also builds a section, so one fewer thread is needed
+      int threadCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+      ThreadPoolExecutor executor = new ThreadPoolExecutor(
+          threadCount,
+          threadCount,
+          KEEP_ALIVE_SECONDS,
+          TimeUnit.SECONDS,
+          new LinkedBlockingQueue<Runnable>(),
+          new ThreadFactory() {
+            private final AtomicInteger threadNumber = new AtomicInteger();
+
+            @Override
+            public Thread newThread(@NonNull Runnable runnable) {
+              Thread thread =
+                  new Thread(runnable, "epoxy-section-" + threadNumber.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            }
+          }
+      );
+      // Threads are only kept alive while models are being built frequently
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    }
+  }
+}
@@ -0,0 +1,292 @@
+package com.airbnb.epoxy;
+
+import android.os.Looper;
+import android.util.SparseIntArray;
+import android.view.ViewGroup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.recyclerview.widget.RecyclerView.RecycledViewPool;
+
+/**
+ * Creates view holders for an {@link EpoxyController}'s models on a background thread before they
+ * are needed, and puts them in the {@link RecycledViewPool} of the RecyclerView they will be shown
+ * in. This moves view inflation off the main thread, which otherwise often causes jank the first
+ * time a new screen is scrolled. With {@link EpoxyRecyclerView} the pool is shared by all
+ * RecyclerViews in the activity, so the view holders can also be used by nested carousels.
+ * <p>
+ * Get the prewarmer with {@link EpoxyController#getViewHolderPrewarmer()}. Views are created with
+ * {@link EpoxyModel#buildView(ViewGroup)} off the main thread, so this should only be used for
+ * models whose views can safely be inflated on a background thread.
+ * <p>
+ * Use {@link #getHitCount()} and {@link #getMissCount()} to check whether prewarming is effective.
+ * All methods must be called on the main thread.
+ */
+public final class ViewHolderPrewarmer {
+  /** The same as the default maximum of {@link RecycledViewPool}. */
+  private static final int DEFAULT_MAX_VIEW_HOLDERS_PER_TYPE = 5;
+  private static Executor defaultExecutor;
+
+  private final EpoxyController controller;
+  private Executor executor;
+  private int maxViewHoldersPerType = DEFAULT_MAX_VIEW_HOLDERS_PER_TYPE;
+
+  /** View holders that are being created in the background, by view type. */
+  private final SparseIntArray pendingCounts = new SparseIntArray();
+  /** View types that have been prewarmed. Creating a view of these types is a miss. */
+  private final SparseIntArray prewarmedViewTypes = new SparseIntArray();
+  /** Prewarmed view holders that have not been bound yet. Weak so dropped holders can be GC'd. */
+  private final Set<RecyclerView.ViewHolder> unusedViewHolders =
+      Collections.newSetFromMap(new WeakHashMap<RecyclerView.ViewHolder, Boolean>());
+  private int prewarmedCount;
+  private int hitCount;
+  private int missCount;
+
+  ViewHolderPrewarmer(EpoxyController controller) {
+    this.controller = controller;
+  }
+
+  /**
+   * Set the executor that view holders are created on. By default a background thread dedicated
+   * to prewarming is used.
+   */
+  @MainThread
+  public void setExecutor(@NonNull Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Set the maximum number of view holders of each view type that the pool should hold after
+   * prewarming. View holders are not created for a view type whose pool already has this many. The
+   * default is 5, the same as the default maximum of {@link RecycledViewPool}.
+   * <p>
+   * A plain {@link RecycledViewPool} drops view holders beyond its own maximum per view type, so if
+   * this is higher than 5 the pool's maximum is raised to this value for each prewarmed view type.
+   */
+  @MainThread
+  public void setMaxViewHoldersPerType(int maxViewHoldersPerType) {
+    this.maxViewHoldersPerType = maxViewHoldersPerType;
+  }
+
+  /**
+   * Create view holders for the given models, such as the models expected on the first screen.
+   * One view holder is created for each model, up to the maximum per view type.
+   *
+   * @param recyclerView The RecyclerView the controller's adapter is or will be set on. Its pool
+   *                     is filled, and it is used as the parent when inflating views.
+   */
+  @MainThread
+  public void prewarm(@NonNull RecyclerView recyclerView,
+      @NonNull List<? extends EpoxyModel<?>> models) {
+    assertMainThread();
+
+    // The first model of each view type is used to create all views of that type
+    SparseIntArray countsByViewType = new SparseIntArray();
+    List<EpoxyModel<?>> prototypes = new ArrayList<>();
+    for (EpoxyModel<?> model : models) {
+      int viewType = ViewTypeManager.getViewType(model);
+      int count = countsByViewType.get(viewType);
+      if (count == 0) {
+        prototypes.add(model);
+      }
+      countsByViewType.put(viewType, count + 1);
+    }
+
+    for (EpoxyModel<?> prototype : prototypes) {
+      prewarm(recyclerView, prototype,
+          countsByViewType.get(ViewTypeManager.getViewType(prototype)));
+    }
+  }
+
+  /**
+   * Create view holders for the given model's view type, up to the maximum per view type.
+   *
+   * @param recyclerView The RecyclerView the controller's adapter is or will be set on. Its pool
+   *                     is filled, and it is used as the parent when inflating views.
+   * @param prototype    A model that is used to create the views. It is not bound to them.
+   * @param count        The number of view holders that are expected to be needed.
+   */
+  @MainThread
+  public void prewarm(@NonNull RecyclerView recyclerView, @NonNull EpoxyModel<?> prototype,
+      int count) {
+    assertMainThread();
+
+    int viewType = ViewTypeManager.getViewType(prototype);
+    RecycledViewPool pool = recyclerView.getRecycledViewPool();
+    int neededCount = Math.min(count, maxViewHoldersPerType)
+        - pool.getRecycledViewCount(viewType)
+        - pendingCounts.get(viewType);
+    if (neededCount <= 0) {
+      return;
+    }
+
+    if (maxViewHoldersPerType > DEFAULT_MAX_VIEW_HOLDERS_PER_TYPE
+        && !(pool instanceof UnboundedViewPool)) {
+      pool.setMaxRecycledViews(viewType, maxViewHoldersPerType);
+    }
+
+    pendingCounts.put(viewType, pendingCounts.get(viewType) + neededCount);
+    prewarmedViewTypes.put(viewType, 1);
+    getExecutor().execute(
+        new CreateViewHoldersTask(recyclerView, pool, prototype, viewType, neededCount));
+  }
+
+  /** The number of view holders that were created in the background and added to a pool. */
+  @MainThread
+  public int getPrewarmedCount() {
+    return prewarmedCount;
+  }
+
+  /** The number of prewarmed view holders that were taken from the pool and bound to a model. */
+  @MainThread
+  public int getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * The number of view holders that had to be created on the main thread for a view type that
+   * was prewarmed, because no prewarmed view holder was left in the pool.
+   */
+  @MainThread
+  public int getMissCount() {
+    return missCount;
+  }
+
+  /** Called by the adapter when it creates a view holder on the main thread. */
+  void onViewHolderCreated(int viewType) {
+    if (prewarmedViewTypes.get(viewType) != 0) {
+      missCount++;
+    }
+  }
+
+  /** Called by the adapter when it binds a view holder. */
+  void onViewHolderBound(EpoxyViewHolder holder) {
+    if (!unusedViewHolders.isEmpty() && unusedViewHolders.remove(holder)) {
+      hitCount++;
+    }
+  }
+
+  private void addToPool(RecycledViewPool pool, int viewType,
+      List<RecyclerView.ViewHolder> viewHolders) {
+    pendingCounts.put(viewType, pendingCounts.get(viewType) - viewHolders.size());
+
+    for (RecyclerView.ViewHolder viewHolder : viewHolders) {
+      // The pool may have been filled by recycled views while these were being created
+      if (pool.getRecycledViewCount(viewType) >= maxViewHoldersPerType) {
+        break;
+      }
+
+      int countBefore = pool.getRecycledViewCount(viewType);
+      pool.putRecycledView(viewHolder);
+      if (pool.getRecycledViewCount(viewType) == countBefore) {
+        // The pool's own maximum for this view type was lowered after prewarming started
+        break;
+      }
+
+      unusedViewHolders.add(viewHolder);
+      prewarmedCount++;
+    }
+  }
+
+  private Executor getExecutor() {
+    if (executor == null) {
+      if (defaultExecutor == null) {
+        defaultExecutor = new HandlerExecutor(EpoxyAsyncUtil.createHandler(
+            EpoxyAsyncUtil.buildBackgroundLooper("epoxy-prewarm"), true));
+      }
+      executor = defaultExecutor;
+    }
+    return executor;
+  }
+
+  private static void assertMainThread() {
+    if (Looper.myLooper() != Looper.getMainLooper()) {
+      throw new IllegalEpoxyUsage("View holders must be prewarmed from the main thread");
+    }
+  }
+
+  /** Creates view holders in the background, then adds them to the pool on the main thread. */
+  private final class CreateViewHoldersTask implements Runnable {
+    private final RecyclerView recyclerView;
+    private final RecycledViewPool pool;
+    private final int viewType;
+    private final int count;
+    private final PrototypeAdapter adapter;
+
+    CreateViewHoldersTask(RecyclerView recyclerView, RecycledViewPool pool,
+        EpoxyModel<?> prototype, int viewType, int count) {
+      this.recyclerView = recyclerView;
+      this.pool = pool;
+      this.viewType = viewType;
+      this.count = count;
+      adapter = new PrototypeAdapter(prototype);
+    }
+
+    @Override
+    public void run() {
+      final List<RecyclerView.ViewHolder> viewHolders = new ArrayList<>(count);
+      RuntimeException error = null;
+      try {
+        for (int i = 0; i < count; i++) {
+          // This sets the view type on the holder, which the pool needs
+          viewHolders.add(adapter.createViewHolder(recyclerView, viewType));
+        }
+      } catch (RuntimeException e) {
+        error = e;
+      }
+
+      final RuntimeException finalError = error;
+      MainThreadExecutor.ASYNC_INSTANCE.execute(new Runnable() {
+        @Override
+        public void run() {
+          // Holders that were not created still count as pending until now
+          pendingCounts.put(viewType, pendingCounts.get(viewType) - (count - viewHolders.size()));
+          addToPool(pool, viewType, viewHolders);
+
+          if (finalError != null) {
+            controller.onExceptionSwallowed(finalError);
+          }
+        }
+      });
+    }
+  }
+
+  /**
+   * Only used to create view holders through {@link RecyclerView.Adapter#createViewHolder}, which
+   * sets their view type. There is no other public way to set it, and the pool needs it. This
+   * adapter is never set on a RecyclerView, so it has no items and never binds.
+   */
+  private static final class PrototypeAdapter extends RecyclerView.Adapter<EpoxyViewHolder> {
+    private final EpoxyModel<?> prototype;
+
+    PrototypeAdapter(EpoxyModel<?> prototype) {
+      this.prototype = prototype;
+    }
+
+    @NonNull
+    @Override
+    public EpoxyViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+      return new EpoxyViewHolder(parent, prototype.buildView(parent),
+          prototype.shouldSaveViewState());
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull EpoxyViewHolder holder, int position) {
+      // No-op. Prewarmed view holders are bound by the controller's adapter once they are taken
+      // from the pool.
+    }
+
+    @Override
+    public int getItemCount() {
+      return 0;
+    }
+  }
+}
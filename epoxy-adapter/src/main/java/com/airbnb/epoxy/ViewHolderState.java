@@ -9,6 +9,7 @@ import android.view.View;
 import com.airbnb.epoxy.ViewHolderState.ViewState;
 import com.airbnb.viewmodeladapter.R;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 import androidx.collection.LongSparseArray;
@@ -28,9 +29,19 @@ import androidx.collection.LongSparseArray;
  * <p/>
  * This class relies on the adapter having stable ids, as the state of a view is mapped to the id of
  * the {@link EpoxyModel}.
+ * <p/>
+ * The number of saved states and the size of the parcelled state can be limited, in which case the
+ * states of the least recently saved or restored views are dropped first.
  */
 @SuppressWarnings("WeakerAccess")
 class ViewHolderState extends LongSparseArray<ViewState> implements Parcelable {
+  static final int UNLIMITED = Integer.MAX_VALUE;
+
+  private int maxSize = UNLIMITED;
+  private int maxParcelBytes = UNLIMITED;
+  /** Incremented each time a state is saved or restored, to order states by when they were used. */
+  private long accessCount;
+
   ViewHolderState() {
   }
 
@@ -43,13 +54,109 @@ class ViewHolderState extends LongSparseArray<ViewState> implements Parcelable {
     return 0;
   }
 
+  /**
+   * @param maxSize        The maximum number of view states to keep. The least recently used are
+   *                       removed when it is exceeded.
+   * @param maxParcelBytes The maximum number of bytes of view state to write to a parcel. The most
+   *                       recently used states are written first, and the rest are dropped once
+   *                       the limit would be exceeded.
+   */
+  void setLimits(int maxSize, int maxParcelBytes) {
+    this.maxSize = maxSize;
+    this.maxParcelBytes = maxParcelBytes;
+    trimToMaxSize();
+  }
+
+  int getMaxSize() {
+    return maxSize;
+  }
+
+  int getMaxParcelBytes() {
+    return maxParcelBytes;
+  }
+
   @Override
   public void writeToParcel(Parcel dest, int flags) {
     final int size = size();
+    int[] positionsByAge = sortByAccess();
+
+    // The count is written after the entries, once we know how many fit in the byte limit
+    int countPosition = dest.dataPosition();
     dest.writeInt(size);
+    int start = dest.dataPosition();
+    int writtenCount = 0;
+
+    // Newest first, so they are the ones kept if the limit is reached
+    for (int i = size - 1; i >= 0; i--) {
+      int position = positionsByAge[i];
+      int entryStart = dest.dataPosition();
+      dest.writeLong(keyAt(position));
+      dest.writeParcelable(valueAt(position), 0);
+
+      if (dest.dataPosition() - start > maxParcelBytes) {
+        dest.setDataPosition(entryStart);
+        dest.setDataSize(entryStart);
+        break;
+      }
+      writtenCount++;
+    }
+
+    if (writtenCount != size) {
+      int end = dest.dataPosition();
+      dest.setDataPosition(countPosition);
+      dest.writeInt(writtenCount);
+      dest.setDataPosition(end);
+    }
+  }
+
+  /** Returns the positions of the states, ordered from least to most recently used. */
+  private int[] sortByAccess() {
+    int size = size();
+    long[] accessTimes = new long[size];
     for (int i = 0; i < size; i++) {
-      dest.writeLong(keyAt(i));
-      dest.writeParcelable(valueAt(i), 0);
+      accessTimes[i] = valueAt(i).lastAccess;
+    }
+    long[] sortedAccessTimes = accessTimes.clone();
+    Arrays.sort(sortedAccessTimes);
+
+    // Access times are unique, so each one's index in the sorted array is its rank
+    int[] positionsByAge = new int[size];
+    for (int i = 0; i < size; i++) {
+      positionsByAge[Arrays.binarySearch(sortedAccessTimes, accessTimes[i])] = i;
+    }
+    return positionsByAge;
+  }
+
+  /** Removes the least recently used states until there are no more than the max size. */
+  private void trimToMaxSize() {
+    int size = size();
+    if (size <= maxSize) {
+      return;
+    }
+
+    if (size == maxSize + 1) {
+      // The common case when a state is saved at the limit, which doesn't need a sort
+      int oldestPosition = 0;
+      for (int i = 1; i < size; i++) {
+        if (valueAt(i).lastAccess < valueAt(oldestPosition).lastAccess) {
+          oldestPosition = i;
+        }
+      }
+      removeAt(oldestPosition);
+      return;
+    }
+
+    int[] positionsByAge = sortByAccess();
+    boolean[] evict = new boolean[size];
+    for (int i = 0; i < size - maxSize; i++) {
+      evict[positionsByAge[i]] = true;
+    }
+
+    // Remove from the end so the positions that are left stay valid
+    for (int i = size - 1; i >= 0; i--) {
+      if (evict[i]) {
+        removeAt(i);
+      }
     }
   }
 
@@ -66,8 +173,11 @@ class ViewHolderState extends LongSparseArray<ViewState> implements Parcelable {
       for (int i = 0; i < size; i++) {
         long key = source.readLong();
         ViewState value = source.readParcelable(ViewState.class.getClassLoader());
+        // States were written newest first
+        value.lastAccess = size - i;
         state.put(key, value);
       }
+      state.accessCount = size;
 
       return state;
     }
@@ -98,7 +208,9 @@ class ViewHolderState extends LongSparseArray<ViewState> implements Parcelable {
     }
 
     state.save(holder.itemView);
+    state.lastAccess = ++accessCount;
     put(holder.getItemId(), state);
+    trimToMaxSize();
   }
 
   /**
@@ -112,6 +224,7 @@ class ViewHolderState extends LongSparseArray<ViewState> implements Parcelable {
 
     ViewState state = get(holder.getItemId());
     if (state != null) {
+      state.lastAccess = ++accessCount;
       state.restore(holder.itemView);
     } else {
       // The first time a model is bound it won't have previous state. We need to make sure
@@ -125,6 +238,8 @@ class ViewHolderState extends LongSparseArray<ViewState> implements Parcelable {
    * parcelable support.
    */
   public static class ViewState extends SparseArray<Parcelable> implements Parcelable {
+    /** When this state was last saved or restored, relative to the other saved states. */
+    long lastAccess;
 
     ViewState() {
     }
@@ -1,13 +1,26 @@
 package com.airbnb.epoxy;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
 class ViewTypeManager {
-  private static final Map<Class, Integer> VIEW_TYPE_MAP = new HashMap<>();
+  /**
+   * View types of model classes that don't specify one. Models may be built and diffed on
+   * background threads, so the table is immutable and replaced atomically when a class is added.
+   * Lookups are lock free, and classes are only added once each.
+   */
+  private static final AtomicReference<ViewTypeTable> VIEW_TYPE_TABLE =
+      new AtomicReference<>(ViewTypeTable.EMPTY);
+  /**
+   * View types for generated models that store their own. These count up from the smallest int, so
+   * they don't collide with layout resources or with the view types in the table, which count down
+   * from -1. They are never reset since the models keep them for the life of the process.
+   */
+  private static final AtomicInteger NEXT_GENERATED_VIEW_TYPE =
+      new AtomicInteger(Integer.MIN_VALUE);
   /**
    * The last model that had its view type looked up. This is stored so in most cases we can quickly
    * look up what view type belongs to which model.
@@ -23,7 +36,11 @@ class ViewTypeManager {
    */
   @VisibleForTesting
   void resetMapForTesting() {
-    VIEW_TYPE_MAP.clear();
+    VIEW_TYPE_TABLE.set(ViewTypeTable.EMPTY);
+  }
+
+  static int generateViewType() {
+    return NEXT_GENERATED_VIEW_TYPE.getAndIncrement();
   }
 
   int getViewTypeAndRememberModel(EpoxyModel<?> model) {
@@ -39,16 +56,20 @@ class ViewTypeManager {
 
     // If a model does not specify a view type then we generate a value to use for models of that
     // class.
-    Class modelClass = model.getClass();
+    Class<?> modelClass = model.getClass();
 
-    Integer viewType = VIEW_TYPE_MAP.get(modelClass);
+    while (true) {
+      ViewTypeTable table = VIEW_TYPE_TABLE.get();
+      int viewType = table.get(modelClass);
+      if (viewType != 0) {
+        return viewType;
+      }
 
-    if (viewType == null) {
-      viewType = -VIEW_TYPE_MAP.size() - 1;
-      VIEW_TYPE_MAP.put(modelClass, viewType);
+      // If another thread added a class first we retry, since it may have been the same class
+      if (VIEW_TYPE_TABLE.compareAndSet(table, table.plus(modelClass, -table.size - 1))) {
+        return -table.size - 1;
+      }
     }
-
-    return viewType;
   }
 
   /**
@@ -91,4 +112,58 @@ class ViewTypeManager {
 
     throw new IllegalStateException("Could not find model for view type: " + viewType);
   }
+
+  /** An immutable open addressing hash table from class to view type. */
+  private static final class ViewTypeTable {
+    static final ViewTypeTable EMPTY = new ViewTypeTable(new Class<?>[16], new int[16], 0);
+
+    private final Class<?>[] classes;
+    private final int[] viewTypes;
+    final int size;
+
+    private ViewTypeTable(Class<?>[] classes, int[] viewTypes, int size) {
+      this.classes = classes;
+      this.viewTypes = viewTypes;
+      this.size = size;
+    }
+
+    /** Returns the view type of the class, or 0 if it has none. */
+    int get(Class<?> modelClass) {
+      int mask = classes.length - 1;
+      for (int i = System.identityHashCode(modelClass) & mask; ; i = (i + 1) & mask) {
+        Class<?> existing = classes[i];
+        if (existing == modelClass) {
+          return viewTypes[i];
+        }
+        if (existing == null) {
+          return 0;
+        }
+      }
+    }
+
+    ViewTypeTable plus(Class<?> modelClass, int viewType) {
+      // Keep the table at most half full so probe sequences stay short
+      int capacity = (size + 1) * 2 > classes.length ? classes.length * 2 : classes.length;
+      Class<?>[] newClasses = new Class<?>[capacity];
+      int[] newViewTypes = new int[capacity];
+      for (int i = 0; i < classes.length; i++) {
+        if (classes[i] != null) {
+          insert(newClasses, newViewTypes, classes[i], viewTypes[i]);
+        }
+      }
+      insert(newClasses, newViewTypes, modelClass, viewType);
+      return new ViewTypeTable(newClasses, newViewTypes, size + 1);
+    }
+
+    private static void insert(Class<?>[] classes, int[] viewTypes, Class<?> modelClass,
+        int viewType) {
+      int mask = classes.length - 1;
+      int i = System.identityHashCode(modelClass) & mask;
+      while (classes[i] != null) {
+        i = (i + 1) & mask;
+      }
+      classes[i] = modelClass;
+      viewTypes[i] = viewType;
+    }
+  }
 }
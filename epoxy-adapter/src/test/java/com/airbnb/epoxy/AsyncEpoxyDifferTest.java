@@ -0,0 +1,179 @@
+package com.airbnb.epoxy;
+
+import android.os.Looper;
+
+import com.airbnb.epoxy.AsyncEpoxyDiffer.ResultCallback;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil.ItemCallback;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+@RunWith(RobolectricTestRunner.class)
+public class AsyncEpoxyDifferTest {
+
+  /** Diffs are queued here, and only run when the test calls {@link #runQueuedDiffs()}. */
+  private final List<Runnable> queuedDiffs = new ArrayList<>();
+  private final List<DiffResult> results = new ArrayList<>();
+  private final CountingItemCallback itemCallback = new CountingItemCallback();
+  private final AsyncEpoxyDiffer differ = new AsyncEpoxyDiffer(
+      new Executor() {
+        @Override
+        public void execute(@NonNull Runnable command) {
+          queuedDiffs.add(command);
+        }
+      },
+      new ResultCallback() {
+        @Override
+        public void onResult(@NonNull DiffResult result) {
+          results.add(result);
+        }
+      },
+      itemCallback
+  );
+
+  @Test
+  public void diffIsAbortedWhenNewerListIsSubmittedDuringIt() {
+    List<TestModel> initialList = models(1000, 0);
+    final List<TestModel> abortedList = models(1000, 1);
+    final List<TestModel> finalList = models(1000, 2);
+    submitAndLatch(initialList);
+
+    itemCallback.onFirstComparison = new Runnable() {
+      @Override
+      public void run() {
+        differ.submitList(finalList);
+      }
+    };
+    differ.submitList(abortedList);
+    runQueuedDiffs();
+
+    assertEquals(1, differ.getAbortedDiffCount());
+    // The diff is checked for being stale every 128 comparisons
+    assertTrue(itemCallback.comparisonsWith(abortedList) <= 128);
+
+    assertEquals(2, results.size());
+    assertSame(initialList, results.get(1).previousModels);
+    assertSame(finalList, results.get(1).newModels);
+    assertEquals(finalList, differ.getCurrentList());
+  }
+
+  @Test
+  public void onlyNewestListSubmittedDuringDiffIsDiffed() {
+    List<TestModel> initialList = models(10, 0);
+    List<TestModel> firstList = models(10, 1);
+    final List<TestModel> secondList = models(10, 2);
+    final List<TestModel> thirdList = models(10, 3);
+    submitAndLatch(initialList);
+
+    itemCallback.onFirstComparison = new Runnable() {
+      @Override
+      public void run() {
+        differ.submitList(secondList);
+        differ.submitList(thirdList);
+      }
+    };
+    differ.submitList(firstList);
+    runQueuedDiffs();
+
+    // The second list was replaced by the third before its diff started
+    assertEquals(1, differ.getConflatedSubmissionCount());
+    assertEquals(0, itemCallback.comparisonsWith(secondList));
+    // The first diff was too small to be aborted, but its result is stale and was dropped
+    assertEquals(0, differ.getAbortedDiffCount());
+
+    assertEquals(2, results.size());
+    assertSame(initialList, results.get(0).newModels);
+    assertSame(initialList, results.get(1).previousModels);
+    assertSame(thirdList, results.get(1).newModels);
+    assertEquals(thirdList, differ.getCurrentList());
+
+    List<TestModel> fourthList = models(10, 4);
+    differ.submitList(fourthList);
+    runQueuedDiffs();
+
+    assertEquals(3, results.size());
+    assertSame(thirdList, results.get(2).previousModels);
+    assertSame(fourthList, results.get(2).newModels);
+  }
+
+  private void submitAndLatch(List<TestModel> list) {
+    differ.submitList(list);
+    runQueuedDiffs();
+    assertEquals(list, differ.getCurrentList());
+  }
+
+  private void runQueuedDiffs() {
+    while (!queuedDiffs.isEmpty()) {
+      queuedDiffs.remove(0).run();
+    }
+    // Results are latched on the main thread
+    shadowOf(Looper.getMainLooper()).idle();
+  }
+
+  private static List<TestModel> models(int count, int value) {
+    List<TestModel> models = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      models.add(new TestModel(i).value(value));
+    }
+    return models;
+  }
+
+  private static class CountingItemCallback extends ItemCallback<EpoxyModel<?>> {
+    /** Run once, before the first comparison of a diff. */
+    @Nullable Runnable onFirstComparison;
+    final List<EpoxyModel<?>> comparedNewItems = new ArrayList<>();
+
+    int comparisonsWith(List<? extends EpoxyModel<?>> newList) {
+      Set<EpoxyModel<?>> models =
+          Collections.newSetFromMap(new IdentityHashMap<EpoxyModel<?>, Boolean>());
+      models.addAll(newList);
+
+      int count = 0;
+      for (EpoxyModel<?> model : comparedNewItems) {
+        if (models.contains(model)) {
+          count++;
+        }
+      }
+      return count;
+    }
+
+    private void onComparison(EpoxyModel<?> newItem) {
+      comparedNewItems.add(newItem);
+      Runnable runnable = onFirstComparison;
+      if (runnable != null) {
+        onFirstComparison = null;
+        runnable.run();
+      }
+    }
+
+    @Override
+    public boolean areItemsTheSame(@NonNull EpoxyModel<?> oldItem,
+        @NonNull EpoxyModel<?> newItem) {
+      onComparison(newItem);
+      return oldItem.id() == newItem.id();
+    }
+
+    @Override
+    public boolean areContentsTheSame(@NonNull EpoxyModel<?> oldItem,
+        @NonNull EpoxyModel<?> newItem) {
+      onComparison(newItem);
+      return oldItem.equals(newItem);
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.airbnb.epoxy;
+
+import android.view.View;
+
+/**
+ * Caches its hashCode the same way as generated models do when
+ * {@link PackageEpoxyConfig#cacheHashCode()} is enabled.
+ */
+public class CachingHashCodeModel extends EpoxyModel<View> {
+  private int cachedHashCode;
+  private int cachedHashCodeMutationCount = -1;
+  private int value;
+  int hashCodeComputeCount;
+
+  public CachingHashCodeModel(long id) {
+    super(id);
+  }
+
+  @Override
+  public int getDefaultLayout() {
+    return 0;
+  }
+
+  CachingHashCodeModel value(int value) {
+    onMutation();
+    this.value = value;
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof CachingHashCodeModel)) {
+      return false;
+    }
+    if (!super.equals(o)) {
+      return false;
+    }
+
+    return value == ((CachingHashCodeModel) o).value;
+  }
+
+  @Override
+  public int hashCode() {
+    if (canCacheHashCode() && cachedHashCodeMutationCount == getMutationCount()) {
+      return cachedHashCode;
+    }
+    hashCodeComputeCount++;
+    int result = super.hashCode();
+    result = 31 * result + value;
+    if (canCacheHashCode()) {
+      cachedHashCode = result;
+      cachedHashCodeMutationCount = getMutationCount();
+    }
+    return result;
+  }
+}
@@ -13,6 +13,7 @@ import java.util.List;
 
 import androidx.recyclerview.widget.RecyclerView.AdapterDataObserver;
 
+import static com.airbnb.epoxy.DiffPayload.getChangeMaskFromPayload;
 import static com.airbnb.epoxy.DiffPayload.getModelFromPayload;
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNull;
@@ -227,6 +228,33 @@ public class DiffPayloadTest {
     assertEquals(model2Payload2, model2FromPayload2);
   }
 
+  @Test
+  public void combinesChangeMasksForModel() {
+    TestModel model = new TestModel(1);
+    TestModel otherModel = new TestModel(2);
+    List<Object> payloads = payloadsWithDiffPayloads(
+        new DiffPayload(model, 0b01),
+        new DiffPayload(otherModel, 0b100),
+        new DiffPayload(model, 0b10)
+    );
+
+    assertEquals(0b11, getChangeMaskFromPayload(payloads, model.id()));
+    assertEquals(0b100, getChangeMaskFromPayload(payloads, otherModel.id()));
+  }
+
+  @Test
+  public void changeMaskIsAllWithoutMaskInPayload() {
+    TestModel model = new TestModel(1);
+    List<Object> payloads = payloadsWithDiffPayloads(
+        new DiffPayload(model, 0b01),
+        diffPayloadWithModels(model)
+    );
+
+    assertEquals(EpoxyModel.CHANGE_MASK_ALL, getChangeMaskFromPayload(payloads, model.id()));
+    assertEquals(EpoxyModel.CHANGE_MASK_ALL,
+        getChangeMaskFromPayload(new ArrayList<>(), model.id()));
+  }
+
   static class DiffPayloadMatcher implements ArgumentMatcher<DiffPayload> {
 
     private final DiffPayload expectedPayload;
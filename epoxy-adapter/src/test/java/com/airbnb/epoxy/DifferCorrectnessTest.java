@@ -31,9 +31,9 @@ public class DifferCorrectnessTest {
    * time for big change sets.
    */
   private static final boolean SPEED_RUN = false;
-  private final TestObserver testObserver = new TestObserver(SHOW_LOGS);
+  final TestObserver testObserver = new TestObserver(SHOW_LOGS);
   private final TestAdapter testAdapter = new TestAdapter();
-  private final List<EpoxyModel<?>> models = testAdapter.models;
+  final List<EpoxyModel<?>> models = testAdapter.models;
   private static long totalDiffMillis = 0;
   private static long totalDiffOperations = 0;
   private static long totalDiffs = 0;
@@ -399,7 +399,7 @@ public class DifferCorrectnessTest {
     testObserver.operationCount = 0;
 
     long start = System.currentTimeMillis();
-    testAdapter.notifyModelsChanged();
+    notifyModelsChanged();
     long end = System.currentTimeMillis();
     totalDiffMillis += (end - start);
     totalDiffOperations += testObserver.operationCount;
@@ -417,6 +417,15 @@ public class DifferCorrectnessTest {
     }
   }
 
+  /**
+   * Diffs {@link #models} against the models of the previous diff and notifies {@link
+   * #testObserver} of the changes. Subclasses can override this to run the same test cases with a
+   * different diffing algorithm.
+   */
+  void notifyModelsChanged() {
+    testAdapter.notifyModelsChanged();
+  }
+
   private static int randInt(int min, int max, Random rand) {
     // nextInt is normally exclusive of the top value,
     // so add 1 to make it inclusive
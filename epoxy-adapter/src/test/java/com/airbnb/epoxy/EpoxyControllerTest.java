@@ -1,5 +1,7 @@
 package com.airbnb.epoxy;
 
+import android.os.Looper;
+
 import com.airbnb.epoxy.EpoxyController.Interceptor;
 
 import org.junit.Test;
@@ -9,17 +11,24 @@ import org.robolectric.annotation.Config;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import androidx.annotation.NonNull;
 import androidx.recyclerview.widget.RecyclerView.AdapterDataObserver;
 
 import static junit.framework.Assert.assertFalse;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.robolectric.Shadows.shadowOf;
 
 @RunWith(RobolectricTestRunner.class)
 public class EpoxyControllerTest {
@@ -120,6 +129,86 @@ public class EpoxyControllerTest {
     assertTrue(exceptionSwallowed);
   }
 
+  @Test
+  public void duplicatesAreFilteredInOrderAndReportedOnce() {
+    final List<RuntimeException> exceptions = new ArrayList<>();
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        long[] ids = {1, 2, 1, 3, 2, 2, 4, 1};
+        for (long id : ids) {
+          new TestModel()
+              .id(id)
+              .addTo(this);
+        }
+      }
+
+      @Override
+      protected void onExceptionSwallowed(RuntimeException exception) {
+        exceptions.add(exception);
+      }
+    };
+
+    controller.setFilterDuplicates(true);
+    controller.requestModelBuild();
+
+    List<EpoxyModel<?>> models = controller.getAdapter().getCopyOfModels();
+    assertEquals(4, models.size());
+    for (int i = 0; i < models.size(); i++) {
+      assertEquals(i + 1, models.get(i).id());
+    }
+    assertEquals(1, exceptions.size());
+    assertTrue(exceptions.get(0).getMessage().startsWith("4 models were removed"));
+  }
+
+  @Test
+  public void metricsAreReportedToListener() {
+    final List<String> events = new ArrayList<>();
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        new TestModel()
+            .id(1)
+            .addTo(this);
+
+        new TestModel()
+            .id(1)
+            .addTo(this);
+      }
+    };
+
+    controller.setFilterDuplicates(true);
+    controller.setMetricsListener(new EpoxyMetricsListener() {
+      @Override
+      public void onModelsBuilt(@NonNull EpoxyController controller, long durationNs,
+          int modelCount) {
+        events.add("built " + modelCount);
+      }
+
+      @Override
+      public void onDuplicatesFiltered(@NonNull EpoxyController controller, long durationNs,
+          int duplicateCount) {
+        events.add("duplicates " + duplicateCount);
+      }
+
+      @Override
+      public void onDiffCalculated(@NonNull EpoxyController controller, long durationNs,
+          int insertedCount, int removedCount, int movedCount, int changedCount) {
+        events.add("diff " + insertedCount + " " + removedCount + " " + movedCount + " "
+            + changedCount);
+      }
+    });
+    controller.requestModelBuild();
+
+    List<String> expectedEvents = new ArrayList<>();
+    expectedEvents.add("built 2");
+    expectedEvents.add("duplicates 1");
+    expectedEvents.add("diff 1 0 0 0");
+    assertEquals(expectedEvents, events);
+  }
+
   boolean interceptorCalled;
 
   @Test
@@ -193,6 +282,60 @@ public class EpoxyControllerTest {
     savedModels.add(new TestModel());
   }
 
+  @Test
+  public void hashCodeCanBeCachedOnceModelIsAdded() {
+    final TestModel model = new TestModel();
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        model.addTo(this);
+      }
+    };
+
+    assertFalse(model.canCacheHashCode());
+    controller.requestModelBuild();
+    assertTrue(model.canCacheHashCode());
+
+    int mutationCount = model.getMutationCount();
+    model.layout(1);
+    assertEquals(mutationCount + 1, model.getMutationCount());
+  }
+
+  @Test
+  public void cachedHashCodeIsInvalidatedByMutation() {
+    final CachingHashCodeModel model = new CachingHashCodeModel(1).value(1);
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        model.addTo(this);
+      }
+    };
+
+    int hashCodeBeforeAdding = model.hashCode();
+    model.hashCode();
+    assertEquals(2, model.hashCodeComputeCount);
+
+    controller.requestModelBuild();
+    int hashCode = model.hashCode();
+    assertEquals(hashCodeBeforeAdding, hashCode);
+    model.hashCodeComputeCount = 0;
+    assertEquals(hashCode, model.hashCode());
+    assertEquals(0, model.hashCodeComputeCount);
+
+    model.value(2);
+    int hashCodeAfterMutation = model.hashCode();
+    assertNotEquals(hashCode, hashCodeAfterMutation);
+    assertEquals(new CachingHashCodeModel(1).value(2).hashCode(), hashCodeAfterMutation);
+    model.hashCode();
+    assertEquals(1, model.hashCodeComputeCount);
+
+    model.layout(3);
+    model.hashCode();
+    assertEquals(2, model.hashCodeComputeCount);
+  }
+
   @Test
   public void interceptorCanModifyModels() {
     EpoxyController controller = new EpoxyController() {
@@ -348,6 +491,39 @@ public class EpoxyControllerTest {
     assertEquals(testModels, adapter.getCurrentModels());
   }
 
+  @Test
+  public void diffOfChangesInMiddleIsDispatchedAtCorrectPositions() {
+    AdapterDataObserver observer = mock(AdapterDataObserver.class);
+    final List<TestModel> testModels = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      testModels.add(new TestModel(i));
+    }
+
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        add(testModels);
+      }
+    };
+
+    EpoxyControllerAdapter adapter = controller.getAdapter();
+    adapter.registerAdapterDataObserver(observer);
+    controller.requestModelBuild();
+    verify(observer).onItemRangeInserted(0, 6);
+
+    // Only the window between the unchanged first two and last two models is diffed
+    testModels.set(2, testModels.get(2).clone().incrementValue());
+    testModels.remove(3);
+
+    controller.requestModelBuild();
+
+    verify(observer).onItemRangeChanged(eq(2), eq(1), any());
+    verify(observer).onItemRangeRemoved(3, 1);
+    assertEquals(testModels, adapter.getCurrentModels());
+    verifyNoMoreInteractions(observer);
+  }
+
   @Test
   public void testDuplicateFilteringDisabledByDefault() {
     EpoxyController controller = new EpoxyController() {
@@ -502,4 +678,189 @@ public class EpoxyControllerTest {
     // Model build should happen synchronously in tests
     assertFalse(controller.hasPendingModelBuild());
   }
+
+  @Test
+  public void coalescedModelBuildRequestsAreReported() {
+    final List<Integer> requestCounts = new ArrayList<>();
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        new TestModel()
+            .addTo(this);
+      }
+
+      @Override
+      protected void onModelBuildRequestsCoalesced(int requestCount) {
+        requestCounts.add(requestCount);
+      }
+    };
+
+    // The first build is synchronous
+    controller.requestModelBuild();
+    controller.requestModelBuild();
+    controller.requestModelBuild();
+    controller.requestModelBuild();
+    shadowOf(Looper.getMainLooper()).idle();
+
+    assertEquals(1, requestCounts.size());
+    assertEquals(3, (int) requestCounts.get(0));
+  }
+
+  int frameAlignedBuildCount;
+
+  @Test
+  public void frameAlignedModelBuildRequestsAreCoalescedUntilTheNextFrame() {
+    final List<Integer> requestCounts = new ArrayList<>();
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        frameAlignedBuildCount++;
+        new TestModel()
+            .addTo(this);
+      }
+
+      @Override
+      protected void onModelBuildRequestsCoalesced(int requestCount) {
+        requestCounts.add(requestCount);
+      }
+    };
+    controller.setFrameAlignedModelBuildsEnabled(true);
+    assertTrue(controller.isFrameAlignedModelBuildsEnabled());
+
+    // The first build is synchronous
+    controller.requestModelBuild();
+    assertEquals(1, frameAlignedBuildCount);
+
+    controller.requestModelBuild();
+    controller.requestModelBuild();
+    controller.requestModelBuild();
+    assertEquals(1, frameAlignedBuildCount);
+    assertTrue(controller.hasPendingModelBuild());
+
+    // Advance the clock past the next frame, so the choreographer runs its frame callbacks
+    shadowOf(Looper.getMainLooper()).idleFor(100, TimeUnit.MILLISECONDS);
+
+    assertEquals(2, frameAlignedBuildCount);
+    assertFalse(controller.hasPendingModelBuild());
+    assertEquals(1, requestCounts.size());
+    assertEquals(3, (int) requestCounts.get(0));
+  }
+
+  @Test
+  public void modelsAreFoundByIdAfterDiffsAndMoves() {
+    final List<TestModel> models = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      models.add(new TestModel(i));
+    }
+
+    EpoxyController controller = new EpoxyController() {
+      @Override
+      protected void buildModels() {
+        add(models);
+      }
+    };
+    EpoxyControllerAdapter adapter = controller.getAdapter();
+
+    controller.requestModelBuild();
+    assertEquals(models.get(1), adapter.getModelById(1));
+    assertEquals(2, adapter.getModelPosition(models.get(2)));
+    assertNull(adapter.getModelById(3));
+    assertEquals(-1, adapter.getModelPosition(new TestModel(3)));
+
+    models.add(0, new TestModel(3));
+    controller.requestModelBuild();
+    shadowOf(Looper.getMainLooper()).idle();
+    assertEquals(0, adapter.getModelPosition(models.get(0)));
+    assertEquals(3, adapter.getModelPosition(models.get(3)));
+
+    controller.moveModel(0, 3);
+    assertEquals(3, adapter.getModelPosition(models.get(0)));
+    assertEquals(models.get(1), adapter.getModelById(0));
+    assertEquals(0, adapter.getModelPosition(models.get(1)));
+  }
+
+  @Test
+  public void movesDuringDragLeavePreviousListsUnchangedAndRebuildOnceAtEnd() {
+    final List<TestModel> models = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      models.add(new TestModel(i));
+    }
+
+    EpoxyController controller = new EpoxyController() {
+      @Override
+      protected void buildModels() {
+        add(models);
+      }
+    };
+    EpoxyControllerAdapter adapter = controller.getAdapter();
+    controller.requestModelBuild();
+    List<? extends EpoxyModel<?>> builtModels = adapter.getCurrentModels();
+
+    controller.setDragInProgress(true);
+    controller.moveModel(0, 1);
+    List<? extends EpoxyModel<?>> movedModels = adapter.getCurrentModels();
+    controller.moveModel(1, 3);
+
+    // Each move sets a new list, and lists that other threads may be reading are unchanged
+    List<? extends EpoxyModel<?>> currentModels = adapter.getCurrentModels();
+    assertNotSame(movedModels, currentModels);
+    assertIds(builtModels, 0, 1, 2, 3);
+    assertIds(movedModels, 1, 0, 2, 3);
+    assertIds(currentModels, 1, 2, 3, 0);
+    assertEquals(3, adapter.getModelPosition(models.get(0)));
+    assertEquals(0, adapter.getModelPosition(models.get(1)));
+
+    // Many moves in a row keep the order correct
+    int moveCount = 24;
+    for (int i = 0; i < moveCount; i++) {
+      controller.moveModel(i % 4, (i + 1) % 4);
+    }
+    List<EpoxyModel<?>> expectedModels = new ArrayList<>(currentModels);
+    for (int i = 0; i < moveCount; i++) {
+      expectedModels.add((i + 1) % 4, expectedModels.remove(i % 4));
+    }
+    assertEquals(expectedModels, adapter.getCurrentModels());
+    assertIds(currentModels, 1, 2, 3, 0);
+    assertFalse(controller.hasPendingModelBuild());
+
+    controller.setDragInProgress(false);
+    assertTrue(controller.hasPendingModelBuild());
+  }
+
+  private static void assertIds(List<? extends EpoxyModel<?>> models, long... ids) {
+    assertEquals(ids.length, models.size());
+    for (int i = 0; i < ids.length; i++) {
+      assertEquals(ids[i], models.get(i).id());
+    }
+  }
+
+  @Test
+  public void movedModelIsRemovedAndInsertedWhenMoveDetectionIsDisabled() {
+    final List<TestModel> models = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      models.add(new TestModel(i));
+    }
+
+    EpoxyController controller = new EpoxyController() {
+      @Override
+      protected void buildModels() {
+        add(models);
+      }
+    };
+    controller.setMoveDetectionEnabled(false);
+    assertFalse(controller.isMoveDetectionEnabled());
+    controller.requestModelBuild();
+
+    AdapterDataObserver observer = mock(AdapterDataObserver.class);
+    controller.getAdapter().registerAdapterDataObserver(observer);
+    models.add(models.remove(0));
+    controller.requestModelBuild();
+    shadowOf(Looper.getMainLooper()).idle();
+
+    verify(observer).onItemRangeRemoved(0, 1);
+    verify(observer).onItemRangeInserted(3, 1);
+    verifyNoMoreInteractions(observer);
+  }
 }
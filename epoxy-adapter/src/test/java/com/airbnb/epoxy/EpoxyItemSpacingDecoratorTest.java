@@ -0,0 +1,143 @@
+package com.airbnb.epoxy;
+
+import android.content.Context;
+import android.graphics.Rect;
+import android.view.View;
+import android.view.View.MeasureSpec;
+import android.view.ViewGroup;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.GridLayoutManager;
+import androidx.recyclerview.widget.GridLayoutManager.SpanSizeLookup;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ApplicationProvider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(RobolectricTestRunner.class)
+public class EpoxyItemSpacingDecoratorTest {
+
+  private static final int SPAN_COUNT = 3;
+
+  private final SpanAdapter adapter = new SpanAdapter();
+  private final EpoxyItemSpacingDecorator decorator = new EpoxyItemSpacingDecorator(10);
+  private RecyclerView recyclerView;
+  private GridLayoutManager layoutManager;
+
+  @Before
+  public void setUp() {
+    Context context = ApplicationProvider.getApplicationContext();
+    recyclerView = new RecyclerView(context);
+    layoutManager = new GridLayoutManager(context, SPAN_COUNT);
+    layoutManager.setSpanSizeLookup(new SpanSizeLookup() {
+      @Override
+      public int getSpanSize(int position) {
+        return adapter.spanSizes[position];
+      }
+    });
+    recyclerView.setLayoutManager(layoutManager);
+    recyclerView.addItemDecoration(decorator);
+    recyclerView.setAdapter(adapter);
+  }
+
+  @Test
+  public void rowsMatchGridLayout() {
+    // Rows are [1, 2] and [1]
+    adapter.setSpanSizes(1, 2, 1);
+    layout();
+
+    assertOffsets(0, 0, 5, 0, 5);
+    // Not in the last row, even though it and the items after it only add up to 3 spans
+    assertOffsets(1, 5, 0, 0, 5);
+    assertOffsets(2, 0, 5, 5, 0);
+  }
+
+  @Test
+  public void indexIsRebuiltWhenAdapterChanges() {
+    adapter.setSpanSizes(1, 1, 1, 1);
+    layout();
+    assertOffsets(3, 0, 5, 5, 0);
+
+    adapter.setSpanSizes(3, 1, 1, 1);
+    layout();
+    assertOffsets(3, 5, 0, 5, 0);
+
+    // The layout manager's caches are used if they are enabled
+    layoutManager.getSpanSizeLookup().setSpanIndexCacheEnabled(true);
+    layoutManager.getSpanSizeLookup().setSpanGroupIndexCacheEnabled(true);
+    adapter.setSpanSizes(1, 1, 1, 1);
+    layout();
+    assertOffsets(3, 0, 5, 5, 0);
+  }
+
+  @Test
+  public void adapterIsNotObservedAfterDecoratorIsRemoved() {
+    adapter.setSpanSizes(1, 1, 1, 1);
+    layout();
+
+    recyclerView.removeItemDecoration(decorator);
+    adapter.setSpanSizes(1, 1);
+    // Detach the RecyclerView's own observer, so only the decorator's could be left
+    recyclerView.setAdapter(null);
+
+    assertFalse(adapter.hasObservers());
+  }
+
+  @Test
+  public void oldAdapterIsNotObservedAfterAdapterIsChanged() {
+    adapter.setSpanSizes(1, 1, 1, 1);
+    layout();
+
+    recyclerView.setAdapter(new SpanAdapter());
+    adapter.setSpanSizes(1, 1);
+
+    assertFalse(adapter.hasObservers());
+  }
+
+  private void layout() {
+    recyclerView.measure(
+        MeasureSpec.makeMeasureSpec(300, MeasureSpec.EXACTLY),
+        MeasureSpec.makeMeasureSpec(1000, MeasureSpec.EXACTLY));
+    recyclerView.layout(0, 0, 300, 1000);
+  }
+
+  private void assertOffsets(int position, int left, int right, int top, int bottom) {
+    View view = layoutManager.findViewByPosition(position);
+    Rect offsets = new Rect();
+    decorator.getItemOffsets(offsets, view, recyclerView, new RecyclerView.State());
+    assertEquals(new Rect(left, top, right, bottom), offsets);
+  }
+
+  private static class SpanAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
+    int[] spanSizes = new int[0];
+
+    void setSpanSizes(int... spanSizes) {
+      this.spanSizes = spanSizes;
+      notifyDataSetChanged();
+    }
+
+    @NonNull
+    @Override
+    public RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+      View view = new View(parent.getContext());
+      view.setLayoutParams(new RecyclerView.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, 50));
+      return new RecyclerView.ViewHolder(view) {
+      };
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {
+    }
+
+    @Override
+    public int getItemCount() {
+      return spanSizes.length;
+    }
+  }
+}
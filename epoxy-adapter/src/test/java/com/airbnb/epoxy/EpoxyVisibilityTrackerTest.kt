@@ -16,6 +16,7 @@ import com.airbnb.epoxy.VisibilityState.PARTIAL_IMPRESSION_INVISIBLE
 import com.airbnb.epoxy.VisibilityState.PARTIAL_IMPRESSION_VISIBLE
 import com.airbnb.epoxy.VisibilityState.UNFOCUSED_VISIBLE
 import com.airbnb.epoxy.VisibilityState.VISIBLE
+import java.util.concurrent.TimeUnit
 import org.junit.After
 import org.junit.Assert
 import org.junit.Before
@@ -27,6 +28,7 @@ import org.robolectric.RobolectricTestRunner
 import org.robolectric.annotation.Config
 import org.robolectric.annotation.LooperMode
 import org.robolectric.shadows.ShadowLog
+import org.robolectric.shadows.ShadowLooper
 
 /**
  * This class test the EpoxyVisibilityTracker by using a RecyclerView that scroll vertically. The
@@ -834,6 +836,42 @@ class EpoxyVisibilityTrackerTest {
         }
     }
 
+    /**
+     * Test that scroll events are processed by one pass per frame when frame batching is enabled
+     */
+    @Test
+    fun testFrameBatching() {
+        val testHelper = buildTestData(10, TWO_AND_HALF_VISIBLE)
+        val halfVisibleItem = testHelper[2]
+        epoxyVisibilityTracker.frameBatchingEnabled = true
+        epoxyVisibilityTracker.resetPassCounts()
+
+        // Keep frames from being drawn so that they can be dispatched manually
+        ShadowLooper.pauseMainLooper()
+        repeat(5) { recyclerView.scrollBy(0, 10) }
+
+        // Nothing is processed until the frame is drawn
+        Assert.assertEquals(0, epoxyVisibilityTracker.executedPassCount)
+        Assert.assertEquals(4, epoxyVisibilityTracker.skippedPassCount)
+        halfVisibleItem.assert(visibleHeight = itemHeight / 2)
+
+        recyclerView.viewTreeObserver.dispatchOnPreDraw()
+        Assert.assertEquals(1, epoxyVisibilityTracker.executedPassCount)
+        halfVisibleItem.assert(visibleHeight = itemHeight / 2 + 50)
+
+        // A pass due sooner than the minimum interval is delayed
+        epoxyVisibilityTracker.minFramePassIntervalMillis = 100
+        recyclerView.scrollBy(0, 10)
+        recyclerView.viewTreeObserver.dispatchOnPreDraw()
+        Assert.assertEquals(1, epoxyVisibilityTracker.executedPassCount)
+        halfVisibleItem.assert(visibleHeight = itemHeight / 2 + 50)
+
+        ShadowLooper.idleMainLooper(100, TimeUnit.MILLISECONDS)
+        Assert.assertTrue(epoxyVisibilityTracker.executedPassCount >= 2)
+        halfVisibleItem.assert(visibleHeight = itemHeight / 2 + 60)
+        ShadowLooper.unPauseMainLooper()
+    }
+
     /**
      * Attach an EpoxyController on the RecyclerView
      */
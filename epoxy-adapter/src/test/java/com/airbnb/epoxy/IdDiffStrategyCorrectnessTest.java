@@ -0,0 +1,97 @@
+package com.airbnb.epoxy;
+
+import android.os.Looper;
+
+import org.junit.Before;
+
+import java.util.ArrayList;
+
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.RecyclerView;
+
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * Runs the test cases of {@link DifferCorrectnessTest} against {@link IdDiffStrategy}. Models are
+ * set on a controller that uses the strategy, so the diff goes through the adapter's differ the
+ * same way it does in an app.
+ */
+public class IdDiffStrategyCorrectnessTest extends DifferCorrectnessTest {
+  private final SimpleEpoxyController controller = new SimpleEpoxyController();
+  private final BatchingObserver batchingObserver = new BatchingObserver(testObserver);
+
+  @Before
+  public void setUpController() {
+    controller.setDiffStrategy(IdDiffStrategy.INSTANCE);
+    controller.getAdapter().registerAdapterDataObserver(batchingObserver);
+  }
+
+  @Override
+  void notifyModelsChanged() {
+    controller.setModels(new ArrayList<>(models));
+    // Models are built and diffed on the main thread by default
+    shadowOf(Looper.getMainLooper()).idle();
+    batchingObserver.flushChanges();
+  }
+
+  /**
+   * Forwards updates to the test observer. Adjacent changes are batched like the adapter diff
+   * does, so that the expected operation counts are the same for both algorithms.
+   */
+  private static class BatchingObserver extends RecyclerView.AdapterDataObserver {
+    private final TestObserver observer;
+    private int pendingChangeStart = -1;
+    private int pendingChangeCount;
+
+    BatchingObserver(TestObserver observer) {
+      this.observer = observer;
+    }
+
+    @Override
+    public void onChanged() {
+      throw new UnsupportedOperationException("The differ should only notify item changes");
+    }
+
+    @Override
+    public void onItemRangeInserted(int positionStart, int itemCount) {
+      flushChanges();
+      observer.onItemRangeInserted(positionStart, itemCount);
+    }
+
+    @Override
+    public void onItemRangeRemoved(int positionStart, int itemCount) {
+      flushChanges();
+      observer.onItemRangeRemoved(positionStart, itemCount);
+    }
+
+    @Override
+    public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+      flushChanges();
+      observer.onItemRangeMoved(fromPosition, toPosition, itemCount);
+    }
+
+    @Override
+    public void onItemRangeChanged(int positionStart, int itemCount) {
+      onItemRangeChanged(positionStart, itemCount, null);
+    }
+
+    @Override
+    public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+      if (pendingChangeStart != -1 && positionStart == pendingChangeStart + pendingChangeCount) {
+        pendingChangeCount += itemCount;
+        return;
+      }
+
+      flushChanges();
+      pendingChangeStart = positionStart;
+      pendingChangeCount = itemCount;
+    }
+
+    void flushChanges() {
+      if (pendingChangeStart != -1) {
+        observer.onItemRangeChanged(pendingChangeStart, pendingChangeCount);
+        pendingChangeStart = -1;
+      }
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.airbnb.epoxy;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+public class LongIntMapTest {
+
+  @Test
+  public void putIfAbsentAndGet() {
+    LongIntMap map = new LongIntMap(3);
+
+    assertEquals(LongIntMap.NO_VALUE, map.putIfAbsent(1, 10));
+    assertEquals(LongIntMap.NO_VALUE, map.putIfAbsent(-1, 20));
+    assertEquals(LongIntMap.NO_VALUE, map.putIfAbsent(Long.MIN_VALUE, 0));
+
+    assertEquals(10, map.get(1));
+    assertEquals(20, map.get(-1));
+    assertEquals(0, map.get(Long.MIN_VALUE));
+    assertEquals(LongIntMap.NO_VALUE, map.get(0));
+    assertTrue(map.containsKey(Long.MIN_VALUE));
+    assertFalse(map.containsKey(0));
+  }
+
+  @Test
+  public void putIfAbsentKeepsExistingValue() {
+    LongIntMap map = new LongIntMap(2);
+    map.putIfAbsent(5, 1);
+
+    assertEquals(1, map.putIfAbsent(5, 2));
+    assertEquals(1, map.get(5));
+
+    // The rejected entry doesn't count towards the maximum size
+    assertEquals(LongIntMap.NO_VALUE, map.putIfAbsent(6, 2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeValuesAreRejected() {
+    new LongIntMap(1).putIfAbsent(1, -1);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void addingMoreThanMaxSizeThrows() {
+    LongIntMap map = new LongIntMap(2);
+    map.putIfAbsent(1, 1);
+    map.putIfAbsent(2, 2);
+    map.putIfAbsent(3, 3);
+  }
+
+  @Test
+  public void matchesHashMapWithRandomKeys() {
+    int maxSize = 5000;
+    LongIntMap map = new LongIntMap(maxSize);
+    Map<Long, Integer> expected = new HashMap<>();
+    Random random = new Random(0);
+
+    for (int i = 0; i < maxSize; i++) {
+      // A small key range forces collisions and repeated keys
+      long key = random.nextInt(4000) - 2000;
+      Integer previous = expected.get(key);
+      if (previous == null) {
+        expected.put(key, i);
+      }
+
+      int expectedResult = previous == null ? LongIntMap.NO_VALUE : previous;
+      assertEquals(expectedResult, map.putIfAbsent(key, i));
+    }
+
+    for (long key = -2000; key < 2000; key++) {
+      Integer value = expected.get(key);
+      assertEquals(value == null ? LongIntMap.NO_VALUE : value, map.get(key));
+    }
+  }
+}
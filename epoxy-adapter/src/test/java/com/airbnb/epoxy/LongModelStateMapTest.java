@@ -0,0 +1,92 @@
+package com.airbnb.epoxy;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+@RunWith(RobolectricTestRunner.class)
+public class LongModelStateMapTest {
+
+  private final LongModelStateMap map = new LongModelStateMap();
+
+  @Test
+  public void putAndGet() {
+    ModelState first = stateWithId(1);
+    ModelState second = stateWithId(-1);
+
+    assertNull(map.put(1, first));
+    assertNull(map.put(-1, second));
+
+    assertSame(first, map.get(1));
+    assertSame(second, map.get(-1));
+    assertNull(map.get(0));
+    assertEquals(2, map.size());
+  }
+
+  @Test
+  public void putReturnsPreviousValue() {
+    ModelState first = stateWithId(5);
+    ModelState second = stateWithId(5);
+
+    map.put(5, first);
+
+    assertSame(first, map.put(5, second));
+    assertSame(second, map.get(5));
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  public void clearKeepsMapUsable() {
+    for (int i = 0; i < 100; i++) {
+      map.put(i, stateWithId(i));
+    }
+
+    map.clear();
+
+    assertEquals(0, map.size());
+    for (int i = 0; i < 100; i++) {
+      assertNull(map.get(i));
+    }
+
+    ModelState state = stateWithId(42);
+    map.put(42, state);
+    assertSame(state, map.get(42));
+  }
+
+  @Test
+  public void matchesHashMapWithRandomOperations() {
+    Map<Long, ModelState> expected = new HashMap<>();
+    Random random = new Random(0);
+
+    for (int i = 0; i < 20000; i++) {
+      // A small key range forces collisions, removals and re-insertions of the same keys
+      long key = random.nextInt(500) - 250;
+      if (random.nextInt(3) == 0) {
+        assertSame(expected.remove(key), map.remove(key));
+      } else {
+        ModelState state = stateWithId(key);
+        assertSame(expected.put(key, state), map.put(key, state));
+      }
+
+      assertEquals(expected.size(), map.size());
+    }
+
+    for (long key = -250; key < 250; key++) {
+      assertSame(expected.get(key), map.get(key));
+    }
+  }
+
+  private static ModelState stateWithId(long id) {
+    ModelState state = new ModelState();
+    state.id = id;
+    return state;
+  }
+}
@@ -0,0 +1,142 @@
+package com.airbnb.epoxy;
+
+import android.os.Looper;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import com.airbnb.epoxy.ModelLatencyProfiler.LatencyStats;
+import com.airbnb.epoxy.ModelLatencyProfiler.ModelStats;
+import com.airbnb.epoxy.ModelLatencyProfiler.Operation;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.Collections;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.test.core.app.ApplicationProvider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+@RunWith(RobolectricTestRunner.class)
+public class ModelLatencyProfilerTest {
+
+  static class ViewModel extends EpoxyModelWithView<View> {
+    ViewModel(long id) {
+      id(id);
+    }
+
+    @NonNull
+    @Override
+    public View buildView(@NonNull ViewGroup parent) {
+      return new View(parent.getContext());
+    }
+  }
+
+  private final FrameLayout parent = new FrameLayout(ApplicationProvider.getApplicationContext());
+
+  @Test
+  public void epoxyAdapterIsProfiled() {
+    SimpleEpoxyAdapter adapter = new SimpleEpoxyAdapter();
+    adapter.addModels(new ViewModel(1), new ViewModel(2));
+    ModelLatencyProfiler profiler = new ModelLatencyProfiler();
+    adapter.setModelLatencyProfiler(profiler);
+
+    bindAndRecycle(adapter, 0);
+    bindAndRecycle(adapter, 1);
+
+    ModelStats stats = profiler.snapshot().get(0);
+    assertEquals(ViewModel.class, stats.getModelClass());
+    assertEquals(2, stats.get(Operation.CREATE).getCount());
+    assertEquals(2, stats.get(Operation.FULL_BIND).getCount());
+    assertEquals(0, stats.get(Operation.DIFF_BIND).getCount());
+    assertEquals(2, stats.get(Operation.UNBIND).getCount());
+  }
+
+  @Test
+  public void controllerCanUseProfilerAndMetricsListenerTogether() {
+    final int[] boundCount = new int[1];
+    SimpleEpoxyController controller = new SimpleEpoxyController();
+    controller.setMetricsListener(new EpoxyMetricsListener() {
+      @Override
+      public void onViewHolderBound(@NonNull EpoxyController controller,
+          @NonNull Class<?> modelClass, long durationNs, boolean isPartialBind) {
+        boundCount[0]++;
+      }
+    });
+    ModelLatencyProfiler profiler = new ModelLatencyProfiler();
+    controller.getAdapter().setModelLatencyProfiler(profiler);
+    controller.setModels(Collections.singletonList(new ViewModel(1)));
+    shadowOf(Looper.getMainLooper()).idle();
+
+    bindAndRecycle(controller.getAdapter(), 0);
+
+    assertEquals(1, boundCount[0]);
+    ModelStats stats = profiler.snapshot().get(0);
+    assertEquals(1, stats.get(Operation.CREATE).getCount());
+    assertEquals(1, stats.get(Operation.FULL_BIND).getCount());
+    assertEquals(1, stats.get(Operation.UNBIND).getCount());
+  }
+
+  private void bindAndRecycle(BaseEpoxyAdapter adapter, int position) {
+    EpoxyViewHolder holder =
+        adapter.createViewHolder(parent, adapter.getItemViewType(position));
+    adapter.bindViewHolder(holder, position);
+    adapter.onViewRecycled(holder);
+  }
+
+  @Test
+  public void percentilesAreWithinBucketPrecision() {
+    ModelLatencyProfiler profiler = new ModelLatencyProfiler();
+    for (int i = 1; i <= 1000; i++) {
+      profiler.record(TestModel.class, Operation.FULL_BIND, i * 1000L);
+    }
+    profiler.record(TestModel.class, Operation.DIFF_BIND, 500);
+
+    List<ModelStats> snapshot = profiler.snapshot();
+    assertEquals(1, snapshot.size());
+    assertEquals(TestModel.class, snapshot.get(0).getModelClass());
+
+    LatencyStats fullBind = snapshot.get(0).get(Operation.FULL_BIND);
+    assertEquals(1000, fullBind.getCount());
+    assertEquals(1000000, fullBind.getMaxNs());
+    assertWithinPrecision(500000, fullBind.getPercentileNs(50));
+    assertWithinPrecision(990000, fullBind.getPercentileNs(99));
+    assertEquals(1000000, fullBind.getPercentileNs(100));
+
+    assertEquals(1, snapshot.get(0).get(Operation.DIFF_BIND).getCount());
+    assertEquals(0, snapshot.get(0).get(Operation.CREATE).getPercentileNs(50));
+  }
+
+  @Test
+  public void snapshotIsSortedByCreateAndBindTime() {
+    ModelLatencyProfiler profiler = new ModelLatencyProfiler();
+    profiler.record(TestModel.class, Operation.CREATE, 1000);
+    profiler.record(TestModel.class, Operation.UNBIND, 100000);
+    profiler.record(AnotherTestModel.class, Operation.FULL_BIND, 2000);
+
+    List<ModelStats> snapshot = profiler.snapshot();
+    assertEquals(AnotherTestModel.class, snapshot.get(0).getModelClass());
+    assertEquals(TestModel.class, snapshot.get(1).getModelClass());
+
+    String dump = profiler.dump();
+    assertTrue(dump.startsWith("AnotherTestModel full_bind[n=1"));
+    assertTrue(dump.contains("TestModel create[n=1"));
+
+    profiler.reset();
+    assertTrue(profiler.snapshot().isEmpty());
+  }
+
+  private static void assertWithinPrecision(long expected, long actual) {
+    assertTrue("Expected about " + expected + " but was " + actual,
+        actual >= expected && actual <= expected * 1.25);
+  }
+
+  private static class AnotherTestModel extends TestModel {
+  }
+}
@@ -0,0 +1,91 @@
+package com.airbnb.epoxy;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+@RunWith(RobolectricTestRunner.class)
+public class MovedModelListTest {
+  private static final int MODEL_COUNT = 2000;
+
+  private final List<EpoxyModel<?>> models = new ArrayList<>();
+  /** The expected order of the models, updated by copying for each move. */
+  private final List<EpoxyModel<?>> expectedModels = new ArrayList<>();
+  private List<? extends EpoxyModel<?>> currentModels = models;
+  private ModelIdIndex currentIndex;
+
+  public MovedModelListTest() {
+    for (int i = 0; i < MODEL_COUNT; i++) {
+      models.add(new TestModel(i));
+    }
+    expectedModels.addAll(models);
+    currentIndex = new ModelIdIndex(models, true);
+  }
+
+  @Test
+  public void longDragDoesNotCopyModels() {
+    // Drag the first model to the end, one swap at a time
+    for (int i = 0; i < MODEL_COUNT - 1; i++) {
+      move(i, i + 1);
+      assertSame(models, ((MovedModelList) currentModels).getUnmovedModels());
+    }
+    assertMatchesExpected();
+
+    // And back to the start
+    for (int i = MODEL_COUNT - 1; i > 0; i--) {
+      move(i, i - 1);
+      assertSame(models, ((MovedModelList) currentModels).getUnmovedModels());
+    }
+    assertMatchesExpected();
+  }
+
+  @Test
+  public void movingAnotherModelCopiesThePreviousMoveOnce() {
+    move(0, 10);
+    move(10, 20);
+    List<? extends EpoxyModel<?>> draggedOnce = currentModels;
+
+    // A new drag of a different model
+    move(5, 4);
+    List<? extends EpoxyModel<?>> unmovedModels =
+        ((MovedModelList) currentModels).getUnmovedModels();
+    assertNotSame(models, unmovedModels);
+    assertEquals(draggedOnce, unmovedModels);
+
+    move(4, 3);
+    move(3, 100);
+    assertSame(unmovedModels, ((MovedModelList) currentModels).getUnmovedModels());
+    assertMatchesExpected();
+
+    // Lists from before the moves are unchanged
+    assertEquals(0, models.get(0).id());
+    assertEquals(models.get(0), draggedOnce.get(20));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void movingOutOfBoundsThrows() {
+    move(0, MODEL_COUNT);
+  }
+
+  private void move(int fromPosition, int toPosition) {
+    MovedModelList movedModels = MovedModelList.move(currentModels, fromPosition, toPosition);
+    currentIndex = ModelIdIndex.forMove(currentIndex, movedModels);
+    currentModels = movedModels;
+    expectedModels.add(toPosition, expectedModels.remove(fromPosition));
+  }
+
+  private void assertMatchesExpected() {
+    assertEquals(expectedModels, currentModels);
+    for (int i = 0; i < MODEL_COUNT; i++) {
+      assertEquals(i, currentIndex.getPosition(expectedModels.get(i).id()));
+    }
+    assertEquals(LongIntMap.NO_VALUE, currentIndex.getPosition(MODEL_COUNT));
+  }
+}
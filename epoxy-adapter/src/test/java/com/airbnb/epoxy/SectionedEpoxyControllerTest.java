@@ -0,0 +1,225 @@
+package com.airbnb.epoxy;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Message;
+
+import com.airbnb.epoxy.SectionedEpoxyController.Section;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.LooperMode;
+import org.robolectric.annotation.LooperMode.Mode;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import androidx.annotation.NonNull;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+@RunWith(RobolectricTestRunner.class)
+@LooperMode(Mode.LEGACY)
+public class SectionedEpoxyControllerTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+  @After
+  public void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void sectionsAreAddedInOrder() {
+    final List<List<TestModel>> sectionModels = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      List<TestModel> models = new ArrayList<>();
+      for (int j = 0; j < 20; j++) {
+        models.add(new TestModel());
+      }
+      sectionModels.add(models);
+    }
+
+    SectionedEpoxyController controller = new SectionedEpoxyController() {
+      @Override
+      protected void buildSections() {
+        for (int i = 0; i < sectionModels.size(); i++) {
+          final List<TestModel> models = sectionModels.get(i);
+          addSection("section" + i, new Section() {
+            @Override
+            public void buildModels(@NonNull ModelCollector collector) {
+              for (TestModel model : models) {
+                collector.add(model);
+              }
+            }
+          });
+        }
+      }
+    };
+    controller.setSectionBuildExecutor(executor);
+    controller.requestModelBuild();
+
+    List<EpoxyModel<?>> builtModels = controller.getAdapter().getCopyOfModels();
+    assertEquals(100, builtModels.size());
+    int position = 0;
+    for (List<TestModel> models : sectionModels) {
+      for (TestModel model : models) {
+        assertSame(model, builtModels.get(position++));
+      }
+    }
+  }
+
+  @Test
+  public void onlyDirtySectionsAreRebuilt() {
+    final int[] buildCounts = new int[2];
+    SectionedEpoxyController controller = new SectionedEpoxyController() {
+      @Override
+      protected void buildSections() {
+        addSection("static", new Section() {
+          @Override
+          public void buildModels(@NonNull ModelCollector models) {
+            buildCounts[0]++;
+            models.add(new TestModel(1));
+          }
+        });
+        addSection("dynamic", new Section() {
+          @Override
+          public void buildModels(@NonNull ModelCollector models) {
+            buildCounts[1]++;
+            models.add(new TestModel(2));
+          }
+        });
+      }
+    };
+    controller.setSectionBuildExecutor(executor);
+
+    controller.requestModelBuild();
+    List<EpoxyModel<?>> firstModels = controller.getAdapter().getCopyOfModels();
+    assertEquals(1, buildCounts[0]);
+    assertEquals(1, buildCounts[1]);
+
+    controller.requestSectionRebuild("dynamic");
+    List<EpoxyModel<?>> secondModels = controller.getAdapter().getCopyOfModels();
+    assertEquals(1, buildCounts[0]);
+    assertEquals(2, buildCounts[1]);
+    assertSame(firstModels.get(0), secondModels.get(0));
+    assertNotSame(firstModels.get(1), secondModels.get(1));
+
+    controller.requestModelBuild();
+    List<EpoxyModel<?>> thirdModels = controller.getAdapter().getCopyOfModels();
+    assertEquals(2, buildCounts[0]);
+    assertEquals(3, buildCounts[1]);
+    assertNotSame(secondModels.get(0), thirdModels.get(0));
+  }
+
+  @Test
+  public void fullRebuildRequestedDuringSectionRebuildRequestRebuildsAllSections()
+      throws InterruptedException {
+    final int[] buildCounts = new int[2];
+    final Thread[] otherThread = new Thread[1];
+    Handler handler = new Handler(Looper.getMainLooper()) {
+      @Override
+      public boolean sendMessageAtTime(Message msg, long uptimeMillis) {
+        Thread thread = otherThread[0];
+        if (thread != null) {
+          otherThread[0] = null;
+          // Request a full rebuild from another thread while the section rebuild is being
+          // requested, and wait until it is blocked on the controller
+          thread.start();
+          while (thread.getState() != Thread.State.BLOCKED
+              && thread.getState() != Thread.State.TERMINATED) {
+            Thread.yield();
+          }
+        }
+        return super.sendMessageAtTime(msg, uptimeMillis);
+      }
+    };
+
+    final SectionedEpoxyController controller = new SectionedEpoxyController(handler, handler) {
+      @Override
+      protected void buildSections() {
+        addSection("static", new Section() {
+          @Override
+          public void buildModels(@NonNull ModelCollector models) {
+            buildCounts[0]++;
+            models.add(new TestModel(1));
+          }
+        });
+        addSection("dynamic", new Section() {
+          @Override
+          public void buildModels(@NonNull ModelCollector models) {
+            buildCounts[1]++;
+            models.add(new TestModel(2));
+          }
+        });
+      }
+    };
+    controller.setSectionBuildExecutor(null);
+    controller.requestModelBuild();
+
+    Thread thread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        controller.requestModelBuild();
+      }
+    });
+    otherThread[0] = thread;
+    ShadowLooper.pauseMainLooper();
+    controller.requestSectionRebuild("dynamic");
+    thread.join();
+    ShadowLooper.unPauseMainLooper();
+    ShadowLooper.idleMainLooper();
+
+    assertEquals(2, buildCounts[0]);
+    assertEquals(2, buildCounts[1]);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void sectionExceptionIsRethrown() {
+    SectionedEpoxyController controller = new SectionedEpoxyController() {
+      @Override
+      protected void buildSections() {
+        addSection("first", new Section() {
+          @Override
+          public void buildModels(@NonNull ModelCollector models) {
+            models.add(new TestModel());
+          }
+        });
+        addSection("second", new Section() {
+          @Override
+          public void buildModels(@NonNull ModelCollector models) {
+            throw new IllegalStateException("Section failed");
+          }
+        });
+      }
+    };
+    controller.setSectionBuildExecutor(executor);
+    controller.requestModelBuild();
+  }
+
+  @Test(expected = IllegalEpoxyUsage.class)
+  public void duplicateSectionKeysThrow() {
+    final Section section = new Section() {
+      @Override
+      public void buildModels(@NonNull ModelCollector models) {
+        models.add(new TestModel());
+      }
+    };
+
+    SectionedEpoxyController controller = new SectionedEpoxyController() {
+      @Override
+      protected void buildSections() {
+        addSection("section", section);
+        addSection("section", section);
+      }
+    };
+    controller.requestModelBuild();
+  }
+}
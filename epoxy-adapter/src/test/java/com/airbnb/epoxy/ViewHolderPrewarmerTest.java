@@ -0,0 +1,137 @@
+package com.airbnb.epoxy;
+
+import android.content.Context;
+import android.view.View;
+import android.view.View.MeasureSpec;
+import android.view.ViewGroup;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.LooperMode;
+import org.robolectric.annotation.LooperMode.Mode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import androidx.test.core.app.ApplicationProvider;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(RobolectricTestRunner.class)
+@LooperMode(Mode.LEGACY)
+public class ViewHolderPrewarmerTest {
+
+  private static final Executor DIRECT_EXECUTOR = new Executor() {
+    @Override
+    public void execute(@NonNull Runnable command) {
+      command.run();
+    }
+  };
+
+  static class ViewModel extends EpoxyModelWithView<View> {
+    ViewModel(long id) {
+      id(id);
+    }
+
+    @NonNull
+    @Override
+    public View buildView(@NonNull ViewGroup parent) {
+      return new View(parent.getContext());
+    }
+  }
+
+  @Test
+  public void prewarmedViewHoldersAreUsedByRecyclerView() {
+    final List<ViewModel> models = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      models.add(new ViewModel(i));
+    }
+
+    EpoxyController controller = new EpoxyController() {
+      @Override
+      protected void buildModels() {
+        add(models);
+      }
+    };
+
+    Context context = ApplicationProvider.getApplicationContext();
+    RecyclerView recyclerView = new RecyclerView(context);
+    recyclerView.setLayoutManager(new LinearLayoutManager(context));
+
+    ViewHolderPrewarmer prewarmer = controller.getViewHolderPrewarmer();
+    prewarmer.setExecutor(DIRECT_EXECUTOR);
+    prewarmer.setMaxViewHoldersPerType(2);
+    prewarmer.prewarm(recyclerView, models);
+
+    int viewType = ViewTypeManager.getViewType(models.get(0));
+    assertEquals(2, recyclerView.getRecycledViewPool().getRecycledViewCount(viewType));
+    assertEquals(2, prewarmer.getPrewarmedCount());
+
+    recyclerView.setAdapter(controller.getAdapter());
+    controller.requestModelBuild();
+    recyclerView.measure(
+        MeasureSpec.makeMeasureSpec(1000, MeasureSpec.EXACTLY),
+        MeasureSpec.makeMeasureSpec(1000, MeasureSpec.EXACTLY));
+    recyclerView.layout(0, 0, 1000, 1000);
+
+    assertEquals(3, recyclerView.getChildCount());
+    assertEquals(2, prewarmer.getHitCount());
+    assertEquals(1, prewarmer.getMissCount());
+  }
+
+  @Test
+  public void plainPoolIsRaisedToMaxViewHoldersPerType() {
+    List<ViewModel> models = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      models.add(new ViewModel(i));
+    }
+
+    Context context = ApplicationProvider.getApplicationContext();
+    RecyclerView recyclerView = new RecyclerView(context);
+
+    ViewHolderPrewarmer prewarmer = new SimpleEpoxyController().getViewHolderPrewarmer();
+    prewarmer.setExecutor(DIRECT_EXECUTOR);
+    prewarmer.setMaxViewHoldersPerType(8);
+    prewarmer.prewarm(recyclerView, models);
+
+    // A plain pool would otherwise keep only 5 view holders per type
+    int viewType = ViewTypeManager.getViewType(models.get(0));
+    assertEquals(8, recyclerView.getRecycledViewPool().getRecycledViewCount(viewType));
+    assertEquals(8, prewarmer.getPrewarmedCount());
+  }
+
+  @Test
+  public void viewHoldersDroppedByPoolAreNotCounted() {
+    List<ViewModel> models = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      models.add(new ViewModel(i));
+    }
+
+    Context context = ApplicationProvider.getApplicationContext();
+    RecyclerView recyclerView = new RecyclerView(context);
+    final RecyclerView.RecycledViewPool pool = recyclerView.getRecycledViewPool();
+    final int viewType = ViewTypeManager.getViewType(models.get(0));
+    final List<Runnable> queuedTasks = new ArrayList<>();
+
+    ViewHolderPrewarmer prewarmer = new SimpleEpoxyController().getViewHolderPrewarmer();
+    prewarmer.setExecutor(new Executor() {
+      @Override
+      public void execute(@NonNull Runnable command) {
+        queuedTasks.add(command);
+      }
+    });
+    prewarmer.prewarm(recyclerView, models);
+
+    // The app lowers the pool's maximum while the view holders are being created
+    pool.setMaxRecycledViews(viewType, 2);
+    queuedTasks.remove(0).run();
+
+    assertEquals(2, pool.getRecycledViewCount(viewType));
+    assertEquals(2, prewarmer.getPrewarmedCount());
+  }
+}
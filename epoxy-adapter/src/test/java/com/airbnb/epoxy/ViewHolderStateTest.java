@@ -0,0 +1,135 @@
+package com.airbnb.epoxy;
+
+import android.os.Bundle;
+import android.os.Parcel;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import androidx.annotation.NonNull;
+import androidx.test.core.app.ApplicationProvider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+@RunWith(RobolectricTestRunner.class)
+public class ViewHolderStateTest {
+
+  static class StatefulModel extends EpoxyModelWithView<View> {
+    StatefulModel(long id) {
+      id(id);
+    }
+
+    @NonNull
+    @Override
+    public View buildView(@NonNull ViewGroup parent) {
+      return new View(parent.getContext());
+    }
+
+    @Override
+    public boolean shouldSaveViewState() {
+      return true;
+    }
+  }
+
+  private final SimpleEpoxyAdapter adapter = new SimpleEpoxyAdapter();
+  private final FrameLayout parent = new FrameLayout(ApplicationProvider.getApplicationContext());
+
+  @Before
+  public void setUp() {
+    adapter.addModels(new StatefulModel(1), new StatefulModel(2), new StatefulModel(3));
+  }
+
+  @Test
+  public void leastRecentlyUsedStatesAreEvicted() {
+    adapter.setMaxSavedViewStates(2);
+
+    bindAndRecycle(0);
+    bindAndRecycle(1);
+    // Using the first state again makes the second one the oldest
+    bindAndRecycle(0);
+    bindAndRecycle(2);
+
+    ViewHolderState state = saveState();
+    assertEquals(2, state.size());
+    assertNotNull(state.get(1));
+    assertNull(state.get(2));
+    assertNotNull(state.get(3));
+  }
+
+  @Test
+  public void exactlyMaxSavedViewStatesAreKept() {
+    adapter.addModels(new StatefulModel(4), new StatefulModel(5), new StatefulModel(6));
+    adapter.setMaxSavedViewStates(4);
+
+    for (int i = 0; i < 6; i++) {
+      bindAndRecycle(i);
+    }
+
+    // Only as many states as needed to get back to the limit are evicted
+    ViewHolderState state = saveState();
+    assertEquals(4, state.size());
+    assertNull(state.get(1));
+    assertNull(state.get(2));
+    for (int id = 3; id <= 6; id++) {
+      assertNotNull(state.get(id));
+    }
+
+    // Lowering the limit evicts several states at once
+    adapter.setMaxSavedViewStates(2);
+    state = saveState();
+    assertEquals(2, state.size());
+    assertNotNull(state.get(5));
+    assertNotNull(state.get(6));
+  }
+
+  @Test
+  public void oldestStatesAreDroppedWhenParcelExceedsByteLimit() {
+    bindAndRecycle(0);
+    bindAndRecycle(1);
+    bindAndRecycle(2);
+
+    Parcel parcel = Parcel.obtain();
+    saveState().writeToParcel(parcel, 0);
+    int bytesPerState = (parcel.dataSize() - 4) / 3;
+    parcel.recycle();
+
+    adapter.setMaxSavedViewStateBytes(bytesPerState * 2 + bytesPerState / 2);
+    ViewHolderState restored = parcelAndRead(saveState());
+    assertEquals(2, restored.size());
+    assertNull(restored.get(1));
+    assertNotNull(restored.get(2));
+    assertNotNull(restored.get(3));
+
+    adapter.setMaxSavedViewStateBytes(0);
+    assertEquals(0, parcelAndRead(saveState()).size());
+  }
+
+  private void bindAndRecycle(int position) {
+    EpoxyViewHolder holder =
+        adapter.createViewHolder(parent, adapter.getItemViewType(position));
+    adapter.bindViewHolder(holder, position);
+    adapter.onViewRecycled(holder);
+  }
+
+  private ViewHolderState saveState() {
+    Bundle bundle = new Bundle();
+    adapter.onSaveInstanceState(bundle);
+    return bundle.getParcelable("saved_state_view_holders");
+  }
+
+  private static ViewHolderState parcelAndRead(ViewHolderState state) {
+    Parcel parcel = Parcel.obtain();
+    state.writeToParcel(parcel, 0);
+    parcel.setDataPosition(0);
+    ViewHolderState result = ViewHolderState.CREATOR.createFromParcel(parcel);
+    parcel.recycle();
+    return result;
+  }
+}
@@ -9,10 +9,14 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 
+import java.util.concurrent.CountDownLatch;
+
 import androidx.annotation.NonNull;
 import androidx.test.core.app.ApplicationProvider;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -132,4 +136,83 @@ public class ViewTypeManagerIntegrationTest {
     assertEquals(adapter1.getItemViewType(0), adapter2.getItemViewType(0));
     assertEquals(adapter1.getItemViewType(1), adapter2.getItemViewType(1));
   }
+
+  static class ModelWithGeneratedViewType extends TestModel {
+    private static final int VIEW_TYPE = generateViewType();
+
+    @Override
+    protected int getViewType() {
+      return VIEW_TYPE;
+    }
+  }
+
+  static class ModelWithGeneratedViewType2 extends TestModel {
+    private static final int VIEW_TYPE = generateViewType();
+
+    @Override
+    protected int getViewType() {
+      return VIEW_TYPE;
+    }
+  }
+
+  @Test
+  public void generatedViewTypesDoNotCollide() {
+    SimpleEpoxyAdapter adapter = new SimpleEpoxyAdapter();
+    adapter.addModel(new ModelWithoutViewType());
+    adapter.addModel(new ModelWithGeneratedViewType());
+    adapter.addModel(new ModelWithGeneratedViewType2());
+    adapter.addModel(new ModelWithGeneratedViewType());
+
+    assertEquals(-1, adapter.getItemViewType(0));
+    assertTrue(adapter.getItemViewType(1) < -1);
+    assertTrue(adapter.getItemViewType(2) < -1);
+    assertNotEquals(adapter.getItemViewType(1), adapter.getItemViewType(2));
+    assertEquals(adapter.getItemViewType(1), adapter.getItemViewType(3));
+  }
+
+  @Test
+  public void viewTypesAreConsistentAcrossThreads() throws InterruptedException {
+    final TestModel[] models = {
+        new ModelWithoutViewType(),
+        new ModelWithoutViewType2(),
+        new ModelWithoutViewType3()
+    };
+    final int[][] viewTypesByThread = new int[4][models.length];
+    final CountDownLatch start = new CountDownLatch(1);
+    Thread[] threads = new Thread[viewTypesByThread.length];
+    for (int i = 0; i < threads.length; i++) {
+      final int[] viewTypes = viewTypesByThread[i];
+      final int offset = i;
+      threads[i] = new Thread(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            start.await();
+          } catch (InterruptedException e) {
+            return;
+          }
+          // Each thread looks up the classes in a different order
+          for (int j = 0; j < models.length; j++) {
+            int index = (j + offset) % models.length;
+            viewTypes[index] = ViewTypeManager.getViewType(models[index]);
+          }
+        }
+      });
+      threads[i].start();
+    }
+
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    for (int[] viewTypes : viewTypesByThread) {
+      for (int i = 0; i < models.length; i++) {
+        assertEquals(ViewTypeManager.getViewType(models[i]), viewTypes[i]);
+      }
+    }
+    assertNotEquals(viewTypesByThread[0][0], viewTypesByThread[0][1]);
+    assertNotEquals(viewTypesByThread[0][1], viewTypesByThread[0][2]);
+    assertNotEquals(viewTypesByThread[0][0], viewTypesByThread[0][2]);
+  }
 }
@@ -20,6 +20,9 @@ public @interface PackageEpoxyConfig {
   boolean REQUIRE_HASHCODE_DEFAULT = false;
   boolean REQUIRE_ABSTRACT_MODELS_DEFAULT = false;
   boolean IMPLICITLY_ADD_AUTO_MODELS_DEFAULT = false;
+  boolean GENERATE_CHANGE_MASKS_DEFAULT = false;
+  boolean CACHE_HASH_CODE_DEFAULT = false;
+  boolean GENERATE_VIEW_TYPES_DEFAULT = false;
   /**
    * If true, all fields marked with {@link com.airbnb.epoxy.EpoxyAttribute} must have a type that
    * implements hashCode and equals (besides the default Object implementation), or the attribute
@@ -60,4 +63,39 @@ public @interface PackageEpoxyConfig {
    * https://github.com/airbnb/epoxy/wiki/Epoxy-Controller#implicit-adding
    */
   boolean implicitlyAddAutoModels() default IMPLICITLY_ADD_AUTO_MODELS_DEFAULT;
+
+  /**
+   * If true, models generated for {@link ModelView} classes in this package compute a bit mask of
+   * their changed props while diffing, on the diffing thread. When the view is rebound the mask is
+   * used to update only the changed props, instead of comparing every prop with the previously
+   * bound model on the main thread.
+   * <p>
+   * Each prop is assigned one bit. Models with more than 63 props share the last bit between the
+   * remaining props, which are then updated together.
+   */
+  boolean generateChangeMasks() default GENERATE_CHANGE_MASKS_DEFAULT;
+
+  /**
+   * If true, generated models in this package cache their hashCode the first time it is computed
+   * after the model is added to an EpoxyController, since models can't be changed after that. This
+   * avoids recomputing the hash of every attribute each time the model is diffed, which is most
+   * useful for models with expensive attributes such as nested lists of models.
+   * <p>
+   * The cache is invalidated whenever a setter is called on the model, so this is only safe if
+   * attributes are never changed directly, for example by mutating an object that was set on the
+   * model. The hashCode is not cached while "validateEpoxyModelUsage" is enabled, so that those
+   * changes are still detected in debug builds.
+   */
+  boolean cacheHashCode() default CACHE_HASH_CODE_DEFAULT;
+
+  /**
+   * If true, models generated for {@link ModelView} classes in this package that create their view
+   * programmatically are assigned a view type once, when the generated class is loaded, and return
+   * it from getViewType. Otherwise Epoxy looks up the view type by the model's class every time
+   * RecyclerView asks for it.
+   * <p>
+   * View types are assigned from a single counter at run time, so they are unique across all
+   * modules of the app without any coordination between them at compile time.
+   */
+  boolean generateViewTypes() default GENERATE_VIEW_TYPES_DEFAULT;
 }
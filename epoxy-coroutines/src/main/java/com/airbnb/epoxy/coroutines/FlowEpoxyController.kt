@@ -0,0 +1,184 @@
+package com.airbnb.epoxy.coroutines
+
+import com.airbnb.epoxy.EpoxyController
+import com.airbnb.epoxy.IllegalEpoxyUsage
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.asExecutor
+import kotlinx.coroutines.channels.BufferOverflow
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.ensureActive
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.MutableSharedFlow
+import kotlinx.coroutines.flow.collectLatest
+import kotlinx.coroutines.flow.combine
+import kotlinx.coroutines.flow.conflate
+import kotlinx.coroutines.flow.onStart
+import kotlinx.coroutines.flow.transformLatest
+import kotlinx.coroutines.job
+import kotlinx.coroutines.withContext
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * An [EpoxyController] that builds its models from the states of a [Flow], instead of from data
+ * that is set on the controller.
+ *
+ * Call [collect] with the flow of states, usually from a lifecycle aware scope. Each state is
+ * passed to [buildModels] on the [modelBuildingDispatcher], and the resulting models are diffed on
+ * the diffing dispatcher. States are conflated, so if several states are emitted while models are
+ * being built only the newest one is built next. If a new state arrives while models are being
+ * built for an older one, the older build is cancelled and its models are never diffed.
+ *
+ * Cancellation is cooperative: [buildModels] is not interrupted, but the result of a stale build is
+ * dropped as soon as it returns.
+ *
+ * @param S The type of the state that models are built from.
+ */
+abstract class FlowEpoxyController<S>(
+    /** The dispatcher to build models on. By default this is [Dispatchers.Default]. */
+    private val modelBuildingDispatcher: CoroutineDispatcher = Dispatchers.Default,
+    /**
+     * The dispatcher to calculate the diff between built model lists on. By default this is
+     * [Dispatchers.Default].
+     */
+    diffingDispatcher: CoroutineDispatcher = Dispatchers.Default
+) : EpoxyController(defaultModelBuildingHandler, diffingDispatcher.asExecutor()) {
+
+    /** Requests to rebuild models for the latest state. */
+    private val rebuildRequests = MutableSharedFlow<RebuildRequest>(
+        extraBufferCapacity = 1,
+        onBufferOverflow = BufferOverflow.DROP_OLDEST
+    )
+    private val isCollecting = AtomicBoolean()
+    private val lastRebuildRequestId = AtomicLong()
+
+    /**
+     * The id of the rebuild request that has not been served by a model build yet, or
+     * [NO_PENDING_REQUEST]. A request whose id no longer matches when its delay ends was either
+     * replaced, cancelled, or served by a build for a new state, so it does not trigger a rebuild.
+     */
+    private val pendingRebuildRequestId = AtomicLong(NO_PENDING_REQUEST)
+
+    // Only accessed on the model building dispatcher, while models are being built
+    private var currentState: StateHolder<S>? = null
+    private var currentBuildJob: Job? = null
+
+    /**
+     * Collects the given states and builds models for each of them, until the calling coroutine is
+     * cancelled. Only one flow can be collected at a time.
+     */
+    @OptIn(ExperimentalCoroutinesApi::class)
+    suspend fun collect(states: Flow<S>) {
+        check(isCollecting.compareAndSet(false, true)) { "States are already being collected" }
+
+        try {
+            val rebuilds = rebuildRequests
+                .transformLatest { request ->
+                    delay(request.delayMs.toLong())
+                    if (pendingRebuildRequestId.get() == request.id) {
+                        emit(Unit)
+                    }
+                }
+                .onStart { emit(Unit) }
+
+            combine(states, rebuilds) { state, _ -> state }
+                .conflate()
+                // collectLatest waits for a cancelled build to return before starting the next one,
+                // so builds never overlap.
+                .collectLatest { state ->
+                    withContext(modelBuildingDispatcher) {
+                        currentState = StateHolder(state)
+                        currentBuildJob = coroutineContext.job
+                        try {
+                            buildModelsSynchronously()
+                        } finally {
+                            currentState = null
+                            currentBuildJob = null
+                        }
+                    }
+                }
+        } finally {
+            pendingRebuildRequestId.set(NO_PENDING_REQUEST)
+            isCollecting.set(false)
+        }
+    }
+
+    /**
+     * Subclasses should implement this to describe what models should be shown for the given state.
+     * This is called on the model building dispatcher each time a new state is collected, or when a
+     * model build is requested for the current state.
+     *
+     * Use [add] to add models, as in [EpoxyController.buildModels].
+     */
+    protected abstract fun buildModels(state: S)
+
+    final override fun buildModels() {
+        val job = currentBuildJob
+            ?: error("Models can only be built for a state from the collected flow")
+        val state = currentState!!.state
+
+        // A newer state may have arrived while this build was waiting to run
+        job.ensureActive()
+        buildModels(state)
+        // Throwing here stops the models for a stale state from being diffed
+        job.ensureActive()
+    }
+
+    /**
+     * Rebuilds models for the latest collected state on the model building dispatcher. This has no
+     * effect if no states are being collected.
+     */
+    override fun requestModelBuild() {
+        requestDelayedModelBuild(0)
+    }
+
+    /**
+     * Rebuilds models for the latest collected state on the model building dispatcher after the
+     * given delay. A newer request or state replaces a pending request.
+     */
+    override fun requestDelayedModelBuild(delayMs: Int) {
+        if (isBuildingModels) {
+            throw IllegalEpoxyUsage(
+                "Cannot call `requestDelayedModelBuild` from inside `buildModels`"
+            )
+        }
+
+        if (!isCollecting.get()) {
+            return
+        }
+
+        val request = RebuildRequest(lastRebuildRequestId.incrementAndGet(), delayMs)
+        pendingRebuildRequestId.set(request.id)
+        rebuildRequests.tryEmit(request)
+    }
+
+    /**
+     * Whether a requested rebuild has not run yet, or models are currently being built or diffed.
+     */
+    override fun hasPendingModelBuild(): Boolean {
+        return pendingRebuildRequestId.get() != NO_PENDING_REQUEST || super.hasPendingModelBuild()
+    }
+
+    /**
+     * Cancels a pending rebuild that was requested with [requestModelBuild] or
+     * [requestDelayedModelBuild]. This does not stop models from being built for new states.
+     *
+     * This is also called when a model build starts, since that build serves all pending requests.
+     */
+    override fun cancelPendingModelBuild() {
+        pendingRebuildRequestId.set(NO_PENDING_REQUEST)
+        super.cancelPendingModelBuild()
+    }
+
+    private class RebuildRequest(val id: Long, val delayMs: Int)
+
+    /** Wraps the state so that a nullable state type can be distinguished from no state. */
+    private class StateHolder<S>(val state: S)
+
+    private companion object {
+        const val NO_PENDING_REQUEST = 0L
+    }
+}
@@ -0,0 +1,136 @@
+package com.airbnb.epoxy.coroutines
+
+import android.os.Looper
+import android.view.View
+import com.airbnb.epoxy.EpoxyModel
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.test.StandardTestDispatcher
+import kotlinx.coroutines.test.advanceTimeBy
+import kotlinx.coroutines.test.advanceUntilIdle
+import kotlinx.coroutines.test.runCurrent
+import kotlinx.coroutines.test.runTest
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertFalse
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.Shadows.shadowOf
+
+@ExperimentalCoroutinesApi
+@RunWith(RobolectricTestRunner::class)
+class FlowEpoxyControllerTest {
+
+    @Test
+    fun onlyLatestStateIsBuilt() = runTest {
+        val dispatcher = StandardTestDispatcher(testScheduler)
+        val controller = RecordingController(dispatcher)
+        val states = MutableStateFlow(0)
+
+        val job = launch { controller.collect(states) }
+        advanceUntilIdle()
+        assertEquals(listOf(0), controller.builtStates)
+
+        states.value = 1
+        states.value = 2
+        states.value = 3
+        advanceUntilIdle()
+        assertEquals(listOf(0, 3), controller.builtStates)
+
+        controller.requestModelBuild()
+        advanceUntilIdle()
+        assertEquals(listOf(0, 3, 3), controller.builtStates)
+
+        job.cancel()
+    }
+
+    @Test
+    fun delayedModelBuildIsPendingUntilItRuns() = runTest {
+        val dispatcher = StandardTestDispatcher(testScheduler)
+        val controller = RecordingController(dispatcher)
+        val states = MutableStateFlow(0)
+
+        val job = launch { controller.collect(states) }
+        advanceUntilIdle()
+        idleMainLooper()
+        assertEquals(listOf(0), controller.builtStates)
+        assertFalse(controller.hasPendingModelBuild())
+
+        controller.requestDelayedModelBuild(100)
+        assertTrue(controller.hasPendingModelBuild())
+
+        advanceTimeBy(50)
+        runCurrent()
+        assertEquals(listOf(0), controller.builtStates)
+        assertTrue(controller.hasPendingModelBuild())
+
+        advanceTimeBy(60)
+        runCurrent()
+        idleMainLooper()
+        assertEquals(listOf(0, 0), controller.builtStates)
+        assertFalse(controller.hasPendingModelBuild())
+
+        job.cancel()
+    }
+
+    @Test
+    fun cancelledModelBuildDoesNotRun() = runTest {
+        val dispatcher = StandardTestDispatcher(testScheduler)
+        val controller = RecordingController(dispatcher)
+        val states = MutableStateFlow(0)
+
+        val job = launch { controller.collect(states) }
+        advanceUntilIdle()
+        idleMainLooper()
+
+        controller.requestDelayedModelBuild(100)
+        advanceTimeBy(50)
+        runCurrent()
+        controller.cancelPendingModelBuild()
+        assertFalse(controller.hasPendingModelBuild())
+
+        advanceUntilIdle()
+        assertEquals(listOf(0), controller.builtStates)
+
+        // A cancelled request does not stop later requests from running
+        controller.requestModelBuild()
+        advanceUntilIdle()
+        assertEquals(listOf(0, 0), controller.builtStates)
+
+        job.cancel()
+    }
+
+    @Test
+    fun modelBuildRequestIsIgnoredWhenNotCollecting() = runTest {
+        val controller = RecordingController(StandardTestDispatcher(testScheduler))
+
+        controller.requestModelBuild()
+        advanceUntilIdle()
+
+        assertFalse(controller.hasPendingModelBuild())
+        assertEquals(emptyList<Int>(), controller.builtStates)
+    }
+
+    /** Diff results are dispatched to the adapter on the main thread. */
+    private fun idleMainLooper() {
+        shadowOf(Looper.getMainLooper()).idle()
+    }
+
+    private class RecordingController(
+        dispatcher: CoroutineDispatcher
+    ) : FlowEpoxyController<Int>(dispatcher, dispatcher) {
+        val builtStates = mutableListOf<Int>()
+
+        override fun buildModels(state: Int) {
+            builtStates.add(state)
+            add(TestModel().id(state.toLong()))
+        }
+    }
+
+    private class TestModel : EpoxyModel<View>() {
+        override fun getDefaultLayout(): Int = 0
+    }
+}
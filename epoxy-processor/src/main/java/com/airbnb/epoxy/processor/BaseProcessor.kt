@@ -5,10 +5,13 @@ import androidx.room.compiler.processing.XFiler
 import androidx.room.compiler.processing.XMessager
 import androidx.room.compiler.processing.XProcessingEnv
 import androidx.room.compiler.processing.XRoundEnv
+import com.airbnb.epoxy.processor.ConfigManager.Companion.PROCESSOR_OPTION_CACHE_HASH_CODE
 import com.airbnb.epoxy.processor.ConfigManager.Companion.PROCESSOR_OPTION_DISABLE_GENERATE_BUILDER_OVERLOADS
 import com.airbnb.epoxy.processor.ConfigManager.Companion.PROCESSOR_OPTION_DISABLE_GENERATE_GETTERS
 import com.airbnb.epoxy.processor.ConfigManager.Companion.PROCESSOR_OPTION_DISABLE_GENERATE_RESET
 import com.airbnb.epoxy.processor.ConfigManager.Companion.PROCESSOR_OPTION_DISABLE_KOTLIN_EXTENSION_GENERATION
+import com.airbnb.epoxy.processor.ConfigManager.Companion.PROCESSOR_OPTION_GENERATE_CHANGE_MASKS
+import com.airbnb.epoxy.processor.ConfigManager.Companion.PROCESSOR_OPTION_GENERATE_VIEW_TYPES
 import com.airbnb.epoxy.processor.ConfigManager.Companion.PROCESSOR_OPTION_IMPLICITLY_ADD_AUTO_MODELS
 import com.airbnb.epoxy.processor.ConfigManager.Companion.PROCESSOR_OPTION_LOG_TIMINGS
 import com.airbnb.epoxy.processor.ConfigManager.Companion.PROCESSOR_OPTION_REQUIRE_ABSTRACT_MODELS
@@ -123,7 +126,10 @@ abstract class BaseProcessor(val kspEnvironment: SymbolProcessorEnvironment? = n
         PROCESSOR_OPTION_LOG_TIMINGS,
         PROCESSOR_OPTION_DISABLE_GENERATE_RESET,
         PROCESSOR_OPTION_DISABLE_GENERATE_GETTERS,
-        PROCESSOR_OPTION_DISABLE_GENERATE_BUILDER_OVERLOADS
+        PROCESSOR_OPTION_DISABLE_GENERATE_BUILDER_OVERLOADS,
+        PROCESSOR_OPTION_GENERATE_CHANGE_MASKS,
+        PROCESSOR_OPTION_CACHE_HASH_CODE,
+        PROCESSOR_OPTION_GENERATE_VIEW_TYPES
     )
 
     override fun init(processingEnv: ProcessingEnvironment) {
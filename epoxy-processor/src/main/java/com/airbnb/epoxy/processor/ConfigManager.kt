@@ -23,6 +23,9 @@ class ConfigManager internal constructor(
     private val globalRequireHashCode: Boolean
     private val globalRequireAbstractModels: Boolean
     private val globalImplicitlyAddAutoModels: Boolean
+    private val globalGenerateChangeMasks: Boolean
+    private val globalCacheHashCode: Boolean
+    private val globalGenerateViewTypes: Boolean
     private val disableKotlinExtensionGeneration: Boolean
     private val disableGenerateReset: Boolean
     private val disableGenerateGetters: Boolean
@@ -54,6 +57,24 @@ class ConfigManager internal constructor(
             PackageEpoxyConfig.IMPLICITLY_ADD_AUTO_MODELS_DEFAULT
         )
 
+        globalGenerateChangeMasks = getBooleanOption(
+            options,
+            PROCESSOR_OPTION_GENERATE_CHANGE_MASKS,
+            PackageEpoxyConfig.GENERATE_CHANGE_MASKS_DEFAULT
+        )
+
+        globalCacheHashCode = getBooleanOption(
+            options,
+            PROCESSOR_OPTION_CACHE_HASH_CODE,
+            PackageEpoxyConfig.CACHE_HASH_CODE_DEFAULT
+        )
+
+        globalGenerateViewTypes = getBooleanOption(
+            options,
+            PROCESSOR_OPTION_GENERATE_VIEW_TYPES,
+            PackageEpoxyConfig.GENERATE_VIEW_TYPES_DEFAULT
+        )
+
         disableKotlinExtensionGeneration = getBooleanOption(
             options,
             PROCESSOR_OPTION_DISABLE_KOTLIN_EXTENSION_GENERATION,
@@ -195,6 +216,41 @@ class ConfigManager internal constructor(
             )
     }
 
+    /**
+     * If true, generated models for views compute a mask of their changed props while diffing, and
+     * use it to only update the changed props when rebinding.
+     */
+    fun generateChangeMasks(modelInfo: GeneratedModelInfo): Boolean {
+        return (
+            globalGenerateChangeMasks ||
+                getConfigurationForPackage(modelInfo.generatedName.packageName())
+                    .generateChangeMasks
+            )
+    }
+
+    /**
+     * If true, generated models cache their hashCode once they are added to a controller, until
+     * they are mutated again.
+     */
+    fun cacheHashCode(modelInfo: GeneratedModelInfo): Boolean {
+        return (
+            globalCacheHashCode ||
+                getConfigurationForPackage(modelInfo.generatedName.packageName()).cacheHashCode
+            )
+    }
+
+    /**
+     * If true, generated models for programmatic views return a view type that is assigned once per
+     * class, instead of having it looked up by class at run time.
+     */
+    fun generateViewTypes(modelInfo: GeneratedModelInfo): Boolean {
+        return (
+            globalGenerateViewTypes ||
+                getConfigurationForPackage(modelInfo.generatedName.packageName())
+                    .generateViewTypes
+            )
+    }
+
     fun disableKotlinExtensionGeneration(): Boolean = disableKotlinExtensionGeneration
 
     /**
@@ -274,6 +330,9 @@ class ConfigManager internal constructor(
         const val PROCESSOR_OPTION_REQUIRE_HASHCODE = "requireHashCodeInEpoxyModels"
         const val PROCESSOR_OPTION_REQUIRE_ABSTRACT_MODELS = "requireAbstractEpoxyModels"
         const val PROCESSOR_OPTION_IMPLICITLY_ADD_AUTO_MODELS = "implicitlyAddAutoModels"
+        const val PROCESSOR_OPTION_GENERATE_CHANGE_MASKS = "epoxyGenerateChangeMasks"
+        const val PROCESSOR_OPTION_CACHE_HASH_CODE = "epoxyCacheHashCode"
+        const val PROCESSOR_OPTION_GENERATE_VIEW_TYPES = "epoxyGenerateViewTypes"
         const val PROCESSOR_OPTION_DISABLE_KOTLIN_EXTENSION_GENERATION =
             "disableEpoxyKotlinExtensionGeneration"
         private val DEFAULT_PACKAGE_CONFIG_SETTINGS = forDefaults()
@@ -98,11 +98,16 @@ class GeneratedModelWriter(
 
         /**
          * True true to have the bind method build, false to not add the method to the generated class.
+         *
+         * If change masks are enabled for the model then [changeMaskParam] is the mask of changed
+         * attributes, which should be checked with [isChangedInMaskCode] instead of comparing each
+         * attribute with the previous model.
          */
         open fun addToBindWithDiffMethod(
             methodBuilder: Builder,
             boundObjectParam: ParameterSpec,
-            previousModelParam: ParameterSpec
+            previousModelParam: ParameterSpec,
+            changeMaskParam: ParameterSpec? = null
         ) {
         }
 
@@ -275,6 +280,30 @@ class GeneratedModelWriter(
             )
         }
 
+        if (classInfo.isProgrammaticView && configManager.generateViewTypes(classInfo)) {
+            fields.add(
+                buildField(TypeName.INT, VIEW_TYPE_FIELD_NAME) {
+                    addModifiers(PRIVATE, STATIC, FINAL)
+                    initializer("generateViewType()")
+                }
+            )
+        }
+
+        if (configManager.cacheHashCode(classInfo)) {
+            fields.add(
+                buildField(TypeName.INT, CACHED_HASH_CODE_FIELD_NAME) {
+                    addModifiers(PRIVATE)
+                }
+            )
+            fields.add(
+                buildField(TypeName.INT, CACHED_HASH_CODE_MUTATION_COUNT_FIELD_NAME) {
+                    addModifiers(PRIVATE)
+                    addJavadoc("The mutation count when the hashCode was cached, or -1.")
+                    initializer("-1")
+                }
+            )
+        }
+
         // Add fields for the bind/unbind listeners
         val onBindListenerType = ParameterizedTypeName.get(
             ClassNames.EPOXY_ON_BIND_MODEL_LISTENER,
@@ -457,7 +486,16 @@ class GeneratedModelWriter(
                 addAnnotation(Override::class.java)
                 addModifiers(PROTECTED)
                 returns(TypeName.INT)
-                addStatement("return 0", modelInfo.modelType)
+                if (configManager.generateViewTypes(modelInfo)) {
+                    // Subclasses may build a different view, so they keep a view type of their own
+                    addStatement(
+                        "return getClass() == \$T.class ? \$L : 0",
+                        modelInfo.generatedName,
+                        VIEW_TYPE_FIELD_NAME
+                    )
+                } else {
+                    addStatement("return 0", modelInfo.modelType)
+                }
             }
         )
 
@@ -599,7 +637,25 @@ class GeneratedModelWriter(
         // If builderhooks is nonnull we assume that it is adding code to the bind methods
         if (builderHooks != null || modelInfo.isStyleable) {
             methods.add(buildBindMethod(builderHooks, boundObjectParam, modelInfo))
-            methods.add(buildBindWithDiffMethod(builderHooks, modelInfo, boundObjectParam))
+
+            if (builderHooks != null && configManager.generateChangeMasks(modelInfo)) {
+                // The mask is computed while diffing, so the diff bind method delegates to the
+                // mask bind method and only has to compute the mask itself when rebinding without
+                // a diff payload.
+                val changeMaskParam = ParameterSpec.builder(TypeName.LONG, "changeMask").build()
+                methods.add(buildComputeChangeMaskMethod(modelInfo))
+                methods.add(buildBindWithDiffDelegatingToMaskMethod(boundObjectParam))
+                methods.add(
+                    buildBindWithDiffMethod(
+                        builderHooks,
+                        modelInfo,
+                        boundObjectParam,
+                        changeMaskParam
+                    )
+                )
+            } else {
+                methods.add(buildBindWithDiffMethod(builderHooks, modelInfo, boundObjectParam))
+            }
         }
 
         val postBind = buildMethod("handlePostBind") {
@@ -791,10 +847,54 @@ class GeneratedModelWriter(
         )
     }
 
+    private fun buildComputeChangeMaskMethod(
+        classInfo: GeneratedModelInfo
+    ) = buildMethod("computeChangeMask") {
+        addAnnotation(Override::class.java)
+        addModifiers(PUBLIC)
+        addParameter(ClassNames.EPOXY_MODEL_UNTYPED, "previousModel")
+        returns(TypeName.LONG)
+
+        val generatedModelClass = classInfo.generatedName
+        beginControlFlow("if (!(previousModel instanceof \$T))", generatedModelClass)
+        addStatement("return CHANGE_MASK_ALL")
+        endControlFlow()
+        addStatement(
+            "\$T that = (\$T) previousModel",
+            generatedModelClass,
+            generatedModelClass
+        )
+
+        addStatement("long changeMask = 0")
+        for (attributeGroup in classInfo.attributeGroups) {
+            for (attribute in attributeGroup.attributes) {
+                startNotEqualsControlFlow(this, attribute)
+                addStatement("changeMask |= 1L << \$L", changeMaskBit(classInfo, attribute))
+                endControlFlow()
+            }
+        }
+        addStatement("return changeMask")
+    }
+
+    private fun buildBindWithDiffDelegatingToMaskMethod(
+        boundObjectParam: ParameterSpec
+    ) = buildMethod("bind") {
+        addAnnotation(Override::class.java)
+        addModifiers(PUBLIC)
+        addParameter(boundObjectParam)
+        addParameter(ClassNames.EPOXY_MODEL_UNTYPED, "previousModel")
+
+        addStatement(
+            "bind(\$L, previousModel, computeChangeMask(previousModel))",
+            boundObjectParam.name
+        )
+    }
+
     private fun buildBindWithDiffMethod(
         builderHooks: BuilderHooks?,
         classInfo: GeneratedModelInfo,
-        boundObjectParam: ParameterSpec
+        boundObjectParam: ParameterSpec,
+        changeMaskParam: ParameterSpec? = null
     ) = buildMethod("bind") {
 
         val previousModelParam = ParameterSpec.builder(
@@ -806,6 +906,7 @@ class GeneratedModelWriter(
         addModifiers(PUBLIC)
         addParameter(boundObjectParam)
         addParameter(previousModelParam)
+        changeMaskParam?.let { addParameter(it) }
 
         val generatedModelClass = classInfo.generatedName
         beginControlFlow(
@@ -852,7 +953,8 @@ class GeneratedModelWriter(
         builderHooks?.addToBindWithDiffMethod(
             this,
             boundObjectParam,
-            previousModelParam
+            previousModelParam,
+            changeMaskParam
         )
     }
 
@@ -1541,6 +1643,17 @@ class GeneratedModelWriter(
         addAnnotation(Override::class.java)
         addModifiers(PUBLIC)
         returns(TypeName.INT)
+
+        val cacheHashCode = configManager.cacheHashCode(helperClass)
+        if (cacheHashCode) {
+            beginControlFlow(
+                "if (canCacheHashCode() && \$L == getMutationCount())",
+                CACHED_HASH_CODE_MUTATION_COUNT_FIELD_NAME
+            )
+            addStatement("return \$L", CACHED_HASH_CODE_FIELD_NAME)
+            endControlFlow()
+        }
+
         addStatement("int $HASH_CODE_RESULT_PROPERTY = super.hashCode()")
 
         addHashCodeLineForType(
@@ -1594,6 +1707,16 @@ class GeneratedModelWriter(
             )
         }
 
+        if (cacheHashCode) {
+            beginControlFlow("if (canCacheHashCode())")
+            addStatement("\$L = $HASH_CODE_RESULT_PROPERTY", CACHED_HASH_CODE_FIELD_NAME)
+            addStatement(
+                "\$L = getMutationCount()",
+                CACHED_HASH_CODE_MUTATION_COUNT_FIELD_NAME
+            )
+            endControlFlow()
+        }
+
         addStatement("return $HASH_CODE_RESULT_PROPERTY")
     }
 
@@ -1917,6 +2040,10 @@ class GeneratedModelWriter(
         private val CREATE_NEW_HOLDER_METHOD_NAME = "createNewHolder"
         private val GET_DEFAULT_LAYOUT_METHOD_NAME = "getDefaultLayout"
         val ATTRIBUTES_BITSET_FIELD_NAME = "assignedAttributes$GENERATED_FIELD_SUFFIX"
+        private val CACHED_HASH_CODE_FIELD_NAME = "cachedHashCode$GENERATED_FIELD_SUFFIX"
+        private val CACHED_HASH_CODE_MUTATION_COUNT_FIELD_NAME =
+            "cachedHashCodeMutationCount$GENERATED_FIELD_SUFFIX"
+        private val VIEW_TYPE_FIELD_NAME = "viewType$GENERATED_FIELD_SUFFIX"
 
         fun shouldUseBitSet(info: GeneratedModelInfo): Boolean {
             return info.attributeInfo.any { shouldUseBitSet(info, it) }
@@ -1957,6 +2084,24 @@ class GeneratedModelWriter(
             return index
         }
 
+        /**
+         * The bit used for the attribute in the mask returned by the generated computeChangeMask
+         * method. Attributes past the last bit of the long share that bit.
+         */
+        private fun changeMaskBit(
+            modelInfo: GeneratedModelInfo,
+            attribute: AttributeInfo
+        ) = minOf(attributeIndex(modelInfo, attribute), java.lang.Long.SIZE - 1)
+
+        fun isChangedInMaskCode(
+            info: GeneratedModelInfo,
+            attribute: AttributeInfo,
+            changeMaskParam: ParameterSpec
+        ) = CodeBlock.of(
+            "((\$L & (1L << \$L)) != 0)", changeMaskParam.name,
+            changeMaskBit(info, attribute)
+        )!!
+
         fun setBitSetIfNeeded(
             modelInfo: GeneratedModelInfo,
             attr: AttributeInfo,
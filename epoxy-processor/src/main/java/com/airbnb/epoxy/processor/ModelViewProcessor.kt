@@ -40,7 +40,9 @@ class ModelViewProcessor @JvmOverloads constructor(
     kspEnvironment: SymbolProcessorEnvironment? = null
 ) : BaseProcessorWithPackageConfigs(kspEnvironment) {
 
-    override val usesPackageEpoxyConfig: Boolean = false
+    // Needed for the PackageEpoxyConfig settings that only apply to view models, such as
+    // generateChangeMasks and generateViewTypes.
+    override val usesPackageEpoxyConfig: Boolean = true
     override val usesModelViewConfig: Boolean = true
 
     private val modelClassMap = ConcurrentHashMap<XTypeElement, ModelViewInfo>()
@@ -114,9 +114,18 @@ internal class ModelViewWriter(
             override fun addToBindWithDiffMethod(
                 methodBuilder: MethodSpec.Builder,
                 boundObjectParam: ParameterSpec,
-                previousModelParam: ParameterSpec
+                previousModelParam: ParameterSpec,
+                changeMaskParam: ParameterSpec?
             ) {
 
+                // With a change mask the comparison to the previous model was already done while
+                // diffing, so we only need to check the attribute's bit.
+                fun changedCode(attribute: AttributeInfo) = if (changeMaskParam != null) {
+                    GeneratedModelWriter.isChangedInMaskCode(modelInfo, attribute, changeMaskParam)
+                } else {
+                    GeneratedModelWriter.notEqualsCodeBlock(attribute)
+                }
+
                 for (attributeGroup in modelInfo.attributeGroups) {
                     val attributes = attributeGroup.attributes
                     val noConditionals = !hasConditionals(attributeGroup)
@@ -126,10 +135,7 @@ internal class ModelViewWriter(
                     for ((index, attribute) in attributes.withIndex()) {
                         if (noConditionals) {
                             methodBuilder.apply {
-                                GeneratedModelWriter.startNotEqualsControlFlow(
-                                    this,
-                                    attribute
-                                )
+                                beginControlFlow("if (\$L)", changedCode(attribute))
 
                                 addCode(
                                     buildCodeBlockToSetAttribute(
@@ -158,14 +164,11 @@ internal class ModelViewWriter(
                             // For primitives we do a simple != check to check if the prop changed from the previous model.
                             // For objects we first check if the prop was not set on the previous model to be able to skip the equals check in some cases
                             if (attribute.isPrimitive) {
-                                GeneratedModelWriter.startNotEqualsControlFlow(
-                                    this,
-                                    attribute
-                                )
+                                beginControlFlow("if (\$L)", changedCode(attribute))
                             } else {
                                 beginControlFlow(
                                     "if (!that.\$L || \$L)", isAttributeSetCode,
-                                    GeneratedModelWriter.notEqualsCodeBlock(attribute)
+                                    changedCode(attribute)
                                 )
                             }
 
@@ -9,7 +9,10 @@ import com.airbnb.epoxy.PackageEpoxyConfig
 class PackageConfigSettings private constructor(
     val requireHashCode: Boolean,
     val requireAbstractModels: Boolean,
-    val implicitlyAddAutoModels: Boolean
+    val implicitlyAddAutoModels: Boolean,
+    val generateChangeMasks: Boolean,
+    val cacheHashCode: Boolean,
+    val generateViewTypes: Boolean
 ) {
 
     companion object {
@@ -17,13 +20,19 @@ class PackageConfigSettings private constructor(
         fun forDefaults() = PackageConfigSettings(
             PackageEpoxyConfig.REQUIRE_HASHCODE_DEFAULT,
             PackageEpoxyConfig.REQUIRE_ABSTRACT_MODELS_DEFAULT,
-            PackageEpoxyConfig.IMPLICITLY_ADD_AUTO_MODELS_DEFAULT
+            PackageEpoxyConfig.IMPLICITLY_ADD_AUTO_MODELS_DEFAULT,
+            PackageEpoxyConfig.GENERATE_CHANGE_MASKS_DEFAULT,
+            PackageEpoxyConfig.CACHE_HASH_CODE_DEFAULT,
+            PackageEpoxyConfig.GENERATE_VIEW_TYPES_DEFAULT
         )
 
         fun create(configAnnotation: XAnnotationBox<PackageEpoxyConfig>) = PackageConfigSettings(
             configAnnotation.value.requireHashCode,
             configAnnotation.value.requireAbstractModels,
-            configAnnotation.value.implicitlyAddAutoModels
+            configAnnotation.value.implicitlyAddAutoModels,
+            configAnnotation.value.generateChangeMasks,
+            configAnnotation.value.cacheHashCode,
+            configAnnotation.value.generateViewTypes
         )
     }
 }
@@ -256,6 +256,35 @@ class ConfigTest {
             .generatesSources(generatedModel)
     }
 
+    @Test
+    fun testCacheHashCode() {
+        assertGeneration(
+            sourceFileNames = listOf("BasicModelWithAttribute.java"),
+            generatedFileNames = listOf("ConfigTest/cacheHashCode/BasicModelWithAttribute_.java"),
+            processorOptions = mapOf("epoxyCacheHashCode" to true)
+        )
+    }
+
+    @Test
+    fun testConfigCacheHashCode() {
+        val config = JavaFileObjects.forSourceString(
+            "com.airbnb.epoxy.EpoxyConfig",
+            """package com.airbnb.epoxy;
+                    import com.airbnb.epoxy.PackageEpoxyConfig;
+                    @PackageEpoxyConfig(
+                        cacheHashCode = true
+                    )
+                    interface EpoxyConfig {}
+                    """
+        )
+
+        assertGeneration(
+            sourceFileNames = listOf("BasicModelWithAttribute.java"),
+            sourceObjects = listOf(config),
+            generatedFileNames = listOf("ConfigTest/cacheHashCode/BasicModelWithAttribute_.java")
+        )
+    }
+
     companion object {
         private val CONFIG_CLASS_REQUIRE_HASH = JavaFileObjects
             .forSourceString(
@@ -151,7 +151,8 @@ internal object ProcessorTestUtils {
         generatedFileObjects: List<JavaFileObject> = emptyList(),
         useParis: Boolean = false,
         compilationMode: CompilationMode = CompilationMode.ALL,
-        ignoreCompilationError: Boolean = false
+        ignoreCompilationError: Boolean = false,
+        processorOptions: Map<String, Any> = emptyMap()
     ) {
         assertGeneration(
             sources = sourceObjects + sourceFileNames.toJavaFileObjects(),
@@ -159,6 +160,7 @@ internal object ProcessorTestUtils {
             useParis = useParis,
             compilationMode = compilationMode,
             ignoreCompilationError = ignoreCompilationError,
+            processorOptions = processorOptions,
         )
     }
 
@@ -172,11 +174,13 @@ internal object ProcessorTestUtils {
          * As long as the generated files match properly then ignore any errors during compilation.
          * This can be used to workaround kinks in kotlin compile testing library.
          */
-        ignoreCompilationError: Boolean = false
+        ignoreCompilationError: Boolean = false,
+        /** Annotation processor options to compile with, such as "epoxyGenerateChangeMasks". */
+        processorOptions: Map<String, Any> = emptyMap()
     ) {
         if (compilationMode.testJavaAP) {
 
-            googleCompileJava(sources)
+            googleCompileJava(sources, processorOptions)
                 .processedWith(processors(useParis))
                 .compilesWithoutError().apply {
                     if (generatedFileObjects.isNotEmpty()) {
@@ -195,6 +199,7 @@ internal object ProcessorTestUtils {
                 // to provide stable build cache keys
                 .withAnnotationProcessorOptions(
                     "logEpoxyTimings" to true,
+                    *processorOptions.toList().toTypedArray()
                 )
                 .processedWith(processors(useParis))
                 .compilesWithoutError().apply {
@@ -217,6 +222,9 @@ internal object ProcessorTestUtils {
         }
 
         val sourcesForKotlinCompilation = toKotlinCompilationSourceFiles(sources)
+        val kotlinCompilationArgs = processorOptions
+            .mapValues { it.value.toString() }
+            .toMutableMap()
 
         if (compilationMode.testKapt) {
             testCodeGeneration(
@@ -224,6 +232,7 @@ internal object ProcessorTestUtils {
                 expectedOutput = generatedFiles,
                 useKsp = false,
                 useParis = useParis,
+                args = kotlinCompilationArgs,
                 ignoreCompilationError = ignoreCompilationError,
             )
         }
@@ -250,6 +259,7 @@ internal object ProcessorTestUtils {
                 expectedOutput = generatedKspFiles,
                 useKsp = true,
                 useParis = useParis,
+                args = kotlinCompilationArgs,
                 ignoreCompilationError = ignoreCompilationError
             )
         }
@@ -394,12 +404,16 @@ fun JavaSourcesSubject.withAnnotationProcessorOptions(vararg option: Pair<String
     return withCompilerOptions(option.map { it.first setTo it.second })
 }
 
-fun googleCompileJava(sources: List<JavaFileObject>): JavaSourcesSubject {
+fun googleCompileJava(
+    sources: List<JavaFileObject>,
+    processorOptions: Map<String, Any> = emptyMap()
+): JavaSourcesSubject {
     return assert_().about(javaSources())
         .that(sources)
         .withAnnotationProcessorOptions(
             // java ap cannot generate kotlin sources
             "disableEpoxyKotlinExtensionGeneration" to true,
+            *processorOptions.toList().toTypedArray()
         )
 }
 
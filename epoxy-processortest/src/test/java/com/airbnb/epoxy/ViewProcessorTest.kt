@@ -413,6 +413,89 @@ class ViewProcessorTest {
         assertGeneration("GridSpanCountView.java", "GridSpanCountViewModel_.java")
     }
 
+    @Test
+    fun generateChangeMasks() {
+        // More than 63 props, so the last ones have to share a bit of the mask
+        assertGeneration(
+            sourceFileNames = listOf(
+                "ViewProcessorTest/generateChangeMasks/ModelViewWithSixtyFiveIntProps.java"
+            ),
+            generatedFileNames = listOf(
+                "ViewProcessorTest/generateChangeMasks/ModelViewWithSixtyFiveIntPropsModel_.java"
+            ),
+            processorOptions = mapOf("epoxyGenerateChangeMasks" to true)
+        )
+    }
+
+    @Test
+    fun generateChangeMasksFromPackageConfig() {
+        val configClass = JavaFileObjects.forSourceString(
+            "com.airbnb.epoxy.EpoxyConfig",
+            """
+                    package com.airbnb.epoxy;
+
+                    import com.airbnb.epoxy.PackageEpoxyConfig;
+
+                    @PackageEpoxyConfig(generateChangeMasks = true)
+                    interface EpoxyConfig {}
+            """.trimIndent()
+        )
+
+        assertGeneration(
+            sourceFileNames = listOf(
+                "ViewProcessorTest/generateChangeMasks/ModelViewWithSixtyFiveIntProps.java"
+            ),
+            sourceObjects = listOf(configClass),
+            generatedFileNames = listOf(
+                "ViewProcessorTest/generateChangeMasks/ModelViewWithSixtyFiveIntPropsModel_.java"
+            )
+        )
+    }
+
+    @Test
+    fun generateViewTypes() {
+        assertGeneration(
+            sourceFileNames = listOf("AutoLayoutModelViewMatchParent.java"),
+            generatedFileNames = listOf(
+                "ViewProcessorTest/generateViewTypes/AutoLayoutModelViewMatchParentModel_.java"
+            ),
+            processorOptions = mapOf("epoxyGenerateViewTypes" to true)
+        )
+    }
+
+    @Test
+    fun generateViewTypesFromPackageConfig() {
+        val configClass = JavaFileObjects.forSourceString(
+            "com.airbnb.epoxy.EpoxyConfig",
+            """
+                    package com.airbnb.epoxy;
+
+                    import com.airbnb.epoxy.PackageEpoxyConfig;
+
+                    @PackageEpoxyConfig(generateViewTypes = true)
+                    interface EpoxyConfig {}
+            """.trimIndent()
+        )
+
+        assertGeneration(
+            sourceFileNames = listOf("AutoLayoutModelViewMatchParent.java"),
+            sourceObjects = listOf(configClass),
+            generatedFileNames = listOf(
+                "ViewProcessorTest/generateViewTypes/AutoLayoutModelViewMatchParentModel_.java"
+            )
+        )
+    }
+
+    @Test
+    fun generateViewTypesIsIgnoredForLayoutViews() {
+        // Views inflated from a layout already use the layout as their view type
+        assertGeneration(
+            sourceFileNames = listOf("TestStringOverloadsView.java"),
+            generatedFileNames = listOf("TestStringOverloadsViewModel_.java"),
+            processorOptions = mapOf("epoxyGenerateViewTypes" to true)
+        )
+    }
+
     @Test
     fun baseModel() {
         val model = JavaFileObjects
@@ -0,0 +1,339 @@
+package com.airbnb.epoxy;
+
+import android.content.Context;
+import android.view.View;
+
+import com.airbnb.epoxy.ModelView.Size;
+
+@ModelView(autoLayout = Size.MATCH_WIDTH_MATCH_HEIGHT)
+public class ModelViewWithSixtyFiveIntProps extends View {
+
+  public ModelViewWithSixtyFiveIntProps(Context context) {
+    super(context);
+  }
+
+  @ModelProp
+  void setProp00(int value) {
+
+  }
+
+  @ModelProp
+  void setProp01(int value) {
+
+  }
+
+  @ModelProp
+  void setProp02(int value) {
+
+  }
+
+  @ModelProp
+  void setProp03(int value) {
+
+  }
+
+  @ModelProp
+  void setProp04(int value) {
+
+  }
+
+  @ModelProp
+  void setProp05(int value) {
+
+  }
+
+  @ModelProp
+  void setProp06(int value) {
+
+  }
+
+  @ModelProp
+  void setProp07(int value) {
+
+  }
+
+  @ModelProp
+  void setProp08(int value) {
+
+  }
+
+  @ModelProp
+  void setProp09(int value) {
+
+  }
+
+  @ModelProp
+  void setProp10(int value) {
+
+  }
+
+  @ModelProp
+  void setProp11(int value) {
+
+  }
+
+  @ModelProp
+  void setProp12(int value) {
+
+  }
+
+  @ModelProp
+  void setProp13(int value) {
+
+  }
+
+  @ModelProp
+  void setProp14(int value) {
+
+  }
+
+  @ModelProp
+  void setProp15(int value) {
+
+  }
+
+  @ModelProp
+  void setProp16(int value) {
+
+  }
+
+  @ModelProp
+  void setProp17(int value) {
+
+  }
+
+  @ModelProp
+  void setProp18(int value) {
+
+  }
+
+  @ModelProp
+  void setProp19(int value) {
+
+  }
+
+  @ModelProp
+  void setProp20(int value) {
+
+  }
+
+  @ModelProp
+  void setProp21(int value) {
+
+  }
+
+  @ModelProp
+  void setProp22(int value) {
+
+  }
+
+  @ModelProp
+  void setProp23(int value) {
+
+  }
+
+  @ModelProp
+  void setProp24(int value) {
+
+  }
+
+  @ModelProp
+  void setProp25(int value) {
+
+  }
+
+  @ModelProp
+  void setProp26(int value) {
+
+  }
+
+  @ModelProp
+  void setProp27(int value) {
+
+  }
+
+  @ModelProp
+  void setProp28(int value) {
+
+  }
+
+  @ModelProp
+  void setProp29(int value) {
+
+  }
+
+  @ModelProp
+  void setProp30(int value) {
+
+  }
+
+  @ModelProp
+  void setProp31(int value) {
+
+  }
+
+  @ModelProp
+  void setProp32(int value) {
+
+  }
+
+  @ModelProp
+  void setProp33(int value) {
+
+  }
+
+  @ModelProp
+  void setProp34(int value) {
+
+  }
+
+  @ModelProp
+  void setProp35(int value) {
+
+  }
+
+  @ModelProp
+  void setProp36(int value) {
+
+  }
+
+  @ModelProp
+  void setProp37(int value) {
+
+  }
+
+  @ModelProp
+  void setProp38(int value) {
+
+  }
+
+  @ModelProp
+  void setProp39(int value) {
+
+  }
+
+  @ModelProp
+  void setProp40(int value) {
+
+  }
+
+  @ModelProp
+  void setProp41(int value) {
+
+  }
+
+  @ModelProp
+  void setProp42(int value) {
+
+  }
+
+  @ModelProp
+  void setProp43(int value) {
+
+  }
+
+  @ModelProp
+  void setProp44(int value) {
+
+  }
+
+  @ModelProp
+  void setProp45(int value) {
+
+  }
+
+  @ModelProp
+  void setProp46(int value) {
+
+  }
+
+  @ModelProp
+  void setProp47(int value) {
+
+  }
+
+  @ModelProp
+  void setProp48(int value) {
+
+  }
+
+  @ModelProp
+  void setProp49(int value) {
+
+  }
+
+  @ModelProp
+  void setProp50(int value) {
+
+  }
+
+  @ModelProp
+  void setProp51(int value) {
+
+  }
+
+  @ModelProp
+  void setProp52(int value) {
+
+  }
+
+  @ModelProp
+  void setProp53(int value) {
+
+  }
+
+  @ModelProp
+  void setProp54(int value) {
+
+  }
+
+  @ModelProp
+  void setProp55(int value) {
+
+  }
+
+  @ModelProp
+  void setProp56(int value) {
+
+  }
+
+  @ModelProp
+  void setProp57(int value) {
+
+  }
+
+  @ModelProp
+  void setProp58(int value) {
+
+  }
+
+  @ModelProp
+  void setProp59(int value) {
+
+  }
+
+  @ModelProp
+  void setProp60(int value) {
+
+  }
+
+  @ModelProp
+  void setProp61(int value) {
+
+  }
+
+  @ModelProp
+  void setProp62(int value) {
+
+  }
+
+  @ModelProp
+  void setProp63(int value) {
+
+  }
+
+  @ModelProp
+  void setProp64(int value) {
+
+  }
+}
@@ -0,0 +1,2315 @@
+package com.airbnb.epoxy;
+
+import android.view.ViewGroup;
+import androidx.annotation.LayoutRes;
+import androidx.annotation.Nullable;
+import java.lang.CharSequence;
+import java.lang.Number;
+import java.lang.Object;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.UnsupportedOperationException;
+
+/**
+ * Generated file. Do not modify!
+ */
+public class ModelViewWithSixtyFiveIntPropsModel_ extends EpoxyModel<ModelViewWithSixtyFiveIntProps> implements GeneratedModel<ModelViewWithSixtyFiveIntProps>, ModelViewWithSixtyFiveIntPropsModelBuilder {
+  private OnModelBoundListener<ModelViewWithSixtyFiveIntPropsModel_, ModelViewWithSixtyFiveIntProps> onModelBoundListener_epoxyGeneratedModel;
+
+  private OnModelUnboundListener<ModelViewWithSixtyFiveIntPropsModel_, ModelViewWithSixtyFiveIntProps> onModelUnboundListener_epoxyGeneratedModel;
+
+  private OnModelVisibilityStateChangedListener<ModelViewWithSixtyFiveIntPropsModel_, ModelViewWithSixtyFiveIntProps> onModelVisibilityStateChangedListener_epoxyGeneratedModel;
+
+  private OnModelVisibilityChangedListener<ModelViewWithSixtyFiveIntPropsModel_, ModelViewWithSixtyFiveIntProps> onModelVisibilityChangedListener_epoxyGeneratedModel;
+
+  private int prop00_Int = 0;
+
+  private int prop01_Int = 0;
+
+  private int prop02_Int = 0;
+
+  private int prop03_Int = 0;
+
+  private int prop04_Int = 0;
+
+  private int prop05_Int = 0;
+
+  private int prop06_Int = 0;
+
+  private int prop07_Int = 0;
+
+  private int prop08_Int = 0;
+
+  private int prop09_Int = 0;
+
+  private int prop10_Int = 0;
+
+  private int prop11_Int = 0;
+
+  private int prop12_Int = 0;
+
+  private int prop13_Int = 0;
+
+  private int prop14_Int = 0;
+
+  private int prop15_Int = 0;
+
+  private int prop16_Int = 0;
+
+  private int prop17_Int = 0;
+
+  private int prop18_Int = 0;
+
+  private int prop19_Int = 0;
+
+  private int prop20_Int = 0;
+
+  private int prop21_Int = 0;
+
+  private int prop22_Int = 0;
+
+  private int prop23_Int = 0;
+
+  private int prop24_Int = 0;
+
+  private int prop25_Int = 0;
+
+  private int prop26_Int = 0;
+
+  private int prop27_Int = 0;
+
+  private int prop28_Int = 0;
+
+  private int prop29_Int = 0;
+
+  private int prop30_Int = 0;
+
+  private int prop31_Int = 0;
+
+  private int prop32_Int = 0;
+
+  private int prop33_Int = 0;
+
+  private int prop34_Int = 0;
+
+  private int prop35_Int = 0;
+
+  private int prop36_Int = 0;
+
+  private int prop37_Int = 0;
+
+  private int prop38_Int = 0;
+
+  private int prop39_Int = 0;
+
+  private int prop40_Int = 0;
+
+  private int prop41_Int = 0;
+
+  private int prop42_Int = 0;
+
+  private int prop43_Int = 0;
+
+  private int prop44_Int = 0;
+
+  private int prop45_Int = 0;
+
+  private int prop46_Int = 0;
+
+  private int prop47_Int = 0;
+
+  private int prop48_Int = 0;
+
+  private int prop49_Int = 0;
+
+  private int prop50_Int = 0;
+
+  private int prop51_Int = 0;
+
+  private int prop52_Int = 0;
+
+  private int prop53_Int = 0;
+
+  private int prop54_Int = 0;
+
+  private int prop55_Int = 0;
+
+  private int prop56_Int = 0;
+
+  private int prop57_Int = 0;
+
+  private int prop58_Int = 0;
+
+  private int prop59_Int = 0;
+
+  private int prop60_Int = 0;
+
+  private int prop61_Int = 0;
+
+  private int prop62_Int = 0;
+
+  private int prop63_Int = 0;
+
+  private int prop64_Int = 0;
+
+  @Override
+  public void addTo(EpoxyController controller) {
+    super.addTo(controller);
+    addWithDebugValidation(controller);
+  }
+
+  @Override
+  protected int getViewType() {
+    return 0;
+  }
+
+  @Override
+  public ModelViewWithSixtyFiveIntProps buildView(ViewGroup parent) {
+    ModelViewWithSixtyFiveIntProps v = new ModelViewWithSixtyFiveIntProps(parent.getContext());
+    v.setLayoutParams(new ViewGroup.MarginLayoutParams(ViewGroup.MarginLayoutParams.MATCH_PARENT, ViewGroup.MarginLayoutParams.MATCH_PARENT));
+    return v;
+  }
+
+  @Override
+  public void handlePreBind(final EpoxyViewHolder holder,
+      final ModelViewWithSixtyFiveIntProps object, final int position) {
+    validateStateHasNotChangedSinceAdded("The model was changed between being added to the controller and being bound.", position);
+  }
+
+  @Override
+  public void bind(final ModelViewWithSixtyFiveIntProps object) {
+    super.bind(object);
+    object.setProp22(prop22_Int);
+    object.setProp21(prop21_Int);
+    object.setProp24(prop24_Int);
+    object.setProp23(prop23_Int);
+    object.setProp62(prop62_Int);
+    object.setProp61(prop61_Int);
+    object.setProp20(prop20_Int);
+    object.setProp64(prop64_Int);
+    object.setProp63(prop63_Int);
+    object.setProp29(prop29_Int);
+    object.setProp26(prop26_Int);
+    object.setProp25(prop25_Int);
+    object.setProp28(prop28_Int);
+    object.setProp27(prop27_Int);
+    object.setProp11(prop11_Int);
+    object.setProp55(prop55_Int);
+    object.setProp10(prop10_Int);
+    object.setProp54(prop54_Int);
+    object.setProp13(prop13_Int);
+    object.setProp57(prop57_Int);
+    object.setProp12(prop12_Int);
+    object.setProp56(prop56_Int);
+    object.setProp51(prop51_Int);
+    object.setProp50(prop50_Int);
+    object.setProp53(prop53_Int);
+    object.setProp52(prop52_Int);
+    object.setProp19(prop19_Int);
+    object.setProp18(prop18_Int);
+    object.setProp15(prop15_Int);
+    object.setProp59(prop59_Int);
+    object.setProp14(prop14_Int);
+    object.setProp58(prop58_Int);
+    object.setProp17(prop17_Int);
+    object.setProp16(prop16_Int);
+    object.setProp60(prop60_Int);
+    object.setProp00(prop00_Int);
+    object.setProp44(prop44_Int);
+    object.setProp43(prop43_Int);
+    object.setProp02(prop02_Int);
+    object.setProp46(prop46_Int);
+    object.setProp01(prop01_Int);
+    object.setProp45(prop45_Int);
+    object.setProp40(prop40_Int);
+    object.setProp42(prop42_Int);
+    object.setProp41(prop41_Int);
+    object.setProp08(prop08_Int);
+    object.setProp07(prop07_Int);
+    object.setProp09(prop09_Int);
+    object.setProp04(prop04_Int);
+    object.setProp48(prop48_Int);
+    object.setProp03(prop03_Int);
+    object.setProp47(prop47_Int);
+    object.setProp06(prop06_Int);
+    object.setProp05(prop05_Int);
+    object.setProp49(prop49_Int);
+    object.setProp33(prop33_Int);
+    object.setProp32(prop32_Int);
+    object.setProp35(prop35_Int);
+    object.setProp34(prop34_Int);
+    object.setProp31(prop31_Int);
+    object.setProp30(prop30_Int);
+    object.setProp37(prop37_Int);
+    object.setProp36(prop36_Int);
+    object.setProp39(prop39_Int);
+    object.setProp38(prop38_Int);
+  }
+
+  @Override
+  public long computeChangeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof ModelViewWithSixtyFiveIntPropsModel_)) {
+      return CHANGE_MASK_ALL;
+    }
+    ModelViewWithSixtyFiveIntPropsModel_ that = (ModelViewWithSixtyFiveIntPropsModel_) previousModel;
+    long changeMask = 0;
+    if ((prop22_Int != that.prop22_Int)) {
+      changeMask |= 1L << 22;
+    }
+    if ((prop21_Int != that.prop21_Int)) {
+      changeMask |= 1L << 21;
+    }
+    if ((prop24_Int != that.prop24_Int)) {
+      changeMask |= 1L << 24;
+    }
+    if ((prop23_Int != that.prop23_Int)) {
+      changeMask |= 1L << 23;
+    }
+    if ((prop62_Int != that.prop62_Int)) {
+      changeMask |= 1L << 62;
+    }
+    if ((prop61_Int != that.prop61_Int)) {
+      changeMask |= 1L << 61;
+    }
+    if ((prop20_Int != that.prop20_Int)) {
+      changeMask |= 1L << 20;
+    }
+    if ((prop64_Int != that.prop64_Int)) {
+      changeMask |= 1L << 63;
+    }
+    if ((prop63_Int != that.prop63_Int)) {
+      changeMask |= 1L << 63;
+    }
+    if ((prop29_Int != that.prop29_Int)) {
+      changeMask |= 1L << 29;
+    }
+    if ((prop26_Int != that.prop26_Int)) {
+      changeMask |= 1L << 26;
+    }
+    if ((prop25_Int != that.prop25_Int)) {
+      changeMask |= 1L << 25;
+    }
+    if ((prop28_Int != that.prop28_Int)) {
+      changeMask |= 1L << 28;
+    }
+    if ((prop27_Int != that.prop27_Int)) {
+      changeMask |= 1L << 27;
+    }
+    if ((prop11_Int != that.prop11_Int)) {
+      changeMask |= 1L << 11;
+    }
+    if ((prop55_Int != that.prop55_Int)) {
+      changeMask |= 1L << 55;
+    }
+    if ((prop10_Int != that.prop10_Int)) {
+      changeMask |= 1L << 10;
+    }
+    if ((prop54_Int != that.prop54_Int)) {
+      changeMask |= 1L << 54;
+    }
+    if ((prop13_Int != that.prop13_Int)) {
+      changeMask |= 1L << 13;
+    }
+    if ((prop57_Int != that.prop57_Int)) {
+      changeMask |= 1L << 57;
+    }
+    if ((prop12_Int != that.prop12_Int)) {
+      changeMask |= 1L << 12;
+    }
+    if ((prop56_Int != that.prop56_Int)) {
+      changeMask |= 1L << 56;
+    }
+    if ((prop51_Int != that.prop51_Int)) {
+      changeMask |= 1L << 51;
+    }
+    if ((prop50_Int != that.prop50_Int)) {
+      changeMask |= 1L << 50;
+    }
+    if ((prop53_Int != that.prop53_Int)) {
+      changeMask |= 1L << 53;
+    }
+    if ((prop52_Int != that.prop52_Int)) {
+      changeMask |= 1L << 52;
+    }
+    if ((prop19_Int != that.prop19_Int)) {
+      changeMask |= 1L << 19;
+    }
+    if ((prop18_Int != that.prop18_Int)) {
+      changeMask |= 1L << 18;
+    }
+    if ((prop15_Int != that.prop15_Int)) {
+      changeMask |= 1L << 15;
+    }
+    if ((prop59_Int != that.prop59_Int)) {
+      changeMask |= 1L << 59;
+    }
+    if ((prop14_Int != that.prop14_Int)) {
+      changeMask |= 1L << 14;
+    }
+    if ((prop58_Int != that.prop58_Int)) {
+      changeMask |= 1L << 58;
+    }
+    if ((prop17_Int != that.prop17_Int)) {
+      changeMask |= 1L << 17;
+    }
+    if ((prop16_Int != that.prop16_Int)) {
+      changeMask |= 1L << 16;
+    }
+    if ((prop60_Int != that.prop60_Int)) {
+      changeMask |= 1L << 60;
+    }
+    if ((prop00_Int != that.prop00_Int)) {
+      changeMask |= 1L << 0;
+    }
+    if ((prop44_Int != that.prop44_Int)) {
+      changeMask |= 1L << 44;
+    }
+    if ((prop43_Int != that.prop43_Int)) {
+      changeMask |= 1L << 43;
+    }
+    if ((prop02_Int != that.prop02_Int)) {
+      changeMask |= 1L << 2;
+    }
+    if ((prop46_Int != that.prop46_Int)) {
+      changeMask |= 1L << 46;
+    }
+    if ((prop01_Int != that.prop01_Int)) {
+      changeMask |= 1L << 1;
+    }
+    if ((prop45_Int != that.prop45_Int)) {
+      changeMask |= 1L << 45;
+    }
+    if ((prop40_Int != that.prop40_Int)) {
+      changeMask |= 1L << 40;
+    }
+    if ((prop42_Int != that.prop42_Int)) {
+      changeMask |= 1L << 42;
+    }
+    if ((prop41_Int != that.prop41_Int)) {
+      changeMask |= 1L << 41;
+    }
+    if ((prop08_Int != that.prop08_Int)) {
+      changeMask |= 1L << 8;
+    }
+    if ((prop07_Int != that.prop07_Int)) {
+      changeMask |= 1L << 7;
+    }
+    if ((prop09_Int != that.prop09_Int)) {
+      changeMask |= 1L << 9;
+    }
+    if ((prop04_Int != that.prop04_Int)) {
+      changeMask |= 1L << 4;
+    }
+    if ((prop48_Int != that.prop48_Int)) {
+      changeMask |= 1L << 48;
+    }
+    if ((prop03_Int != that.prop03_Int)) {
+      changeMask |= 1L << 3;
+    }
+    if ((prop47_Int != that.prop47_Int)) {
+      changeMask |= 1L << 47;
+    }
+    if ((prop06_Int != that.prop06_Int)) {
+      changeMask |= 1L << 6;
+    }
+    if ((prop05_Int != that.prop05_Int)) {
+      changeMask |= 1L << 5;
+    }
+    if ((prop49_Int != that.prop49_Int)) {
+      changeMask |= 1L << 49;
+    }
+    if ((prop33_Int != that.prop33_Int)) {
+      changeMask |= 1L << 33;
+    }
+    if ((prop32_Int != that.prop32_Int)) {
+      changeMask |= 1L << 32;
+    }
+    if ((prop35_Int != that.prop35_Int)) {
+      changeMask |= 1L << 35;
+    }
+    if ((prop34_Int != that.prop34_Int)) {
+      changeMask |= 1L << 34;
+    }
+    if ((prop31_Int != that.prop31_Int)) {
+      changeMask |= 1L << 31;
+    }
+    if ((prop30_Int != that.prop30_Int)) {
+      changeMask |= 1L << 30;
+    }
+    if ((prop37_Int != that.prop37_Int)) {
+      changeMask |= 1L << 37;
+    }
+    if ((prop36_Int != that.prop36_Int)) {
+      changeMask |= 1L << 36;
+    }
+    if ((prop39_Int != that.prop39_Int)) {
+      changeMask |= 1L << 39;
+    }
+    if ((prop38_Int != that.prop38_Int)) {
+      changeMask |= 1L << 38;
+    }
+    return changeMask;
+  }
+
+  @Override
+  public void bind(final ModelViewWithSixtyFiveIntProps object, EpoxyModel previousModel) {
+    bind(object, previousModel, computeChangeMask(previousModel));
+  }
+
+  @Override
+  public void bind(final ModelViewWithSixtyFiveIntProps object, EpoxyModel previousModel,
+      long changeMask) {
+    if (!(previousModel instanceof ModelViewWithSixtyFiveIntPropsModel_)) {
+      bind(object);
+      return;
+    }
+    ModelViewWithSixtyFiveIntPropsModel_ that = (ModelViewWithSixtyFiveIntPropsModel_) previousModel;
+    super.bind(object);
+
+    if (((changeMask & (1L << 22)) != 0)) {
+      object.setProp22(prop22_Int);
+    }
+
+    if (((changeMask & (1L << 21)) != 0)) {
+      object.setProp21(prop21_Int);
+    }
+
+    if (((changeMask & (1L << 24)) != 0)) {
+      object.setProp24(prop24_Int);
+    }
+
+    if (((changeMask & (1L << 23)) != 0)) {
+      object.setProp23(prop23_Int);
+    }
+
+    if (((changeMask & (1L << 62)) != 0)) {
+      object.setProp62(prop62_Int);
+    }
+
+    if (((changeMask & (1L << 61)) != 0)) {
+      object.setProp61(prop61_Int);
+    }
+
+    if (((changeMask & (1L << 20)) != 0)) {
+      object.setProp20(prop20_Int);
+    }
+
+    if (((changeMask & (1L << 63)) != 0)) {
+      object.setProp64(prop64_Int);
+    }
+
+    if (((changeMask & (1L << 63)) != 0)) {
+      object.setProp63(prop63_Int);
+    }
+
+    if (((changeMask & (1L << 29)) != 0)) {
+      object.setProp29(prop29_Int);
+    }
+
+    if (((changeMask & (1L << 26)) != 0)) {
+      object.setProp26(prop26_Int);
+    }
+
+    if (((changeMask & (1L << 25)) != 0)) {
+      object.setProp25(prop25_Int);
+    }
+
+    if (((changeMask & (1L << 28)) != 0)) {
+      object.setProp28(prop28_Int);
+    }
+
+    if (((changeMask & (1L << 27)) != 0)) {
+      object.setProp27(prop27_Int);
+    }
+
+    if (((changeMask & (1L << 11)) != 0)) {
+      object.setProp11(prop11_Int);
+    }
+
+    if (((changeMask & (1L << 55)) != 0)) {
+      object.setProp55(prop55_Int);
+    }
+
+    if (((changeMask & (1L << 10)) != 0)) {
+      object.setProp10(prop10_Int);
+    }
+
+    if (((changeMask & (1L << 54)) != 0)) {
+      object.setProp54(prop54_Int);
+    }
+
+    if (((changeMask & (1L << 13)) != 0)) {
+      object.setProp13(prop13_Int);
+    }
+
+    if (((changeMask & (1L << 57)) != 0)) {
+      object.setProp57(prop57_Int);
+    }
+
+    if (((changeMask & (1L << 12)) != 0)) {
+      object.setProp12(prop12_Int);
+    }
+
+    if (((changeMask & (1L << 56)) != 0)) {
+      object.setProp56(prop56_Int);
+    }
+
+    if (((changeMask & (1L << 51)) != 0)) {
+      object.setProp51(prop51_Int);
+    }
+
+    if (((changeMask & (1L << 50)) != 0)) {
+      object.setProp50(prop50_Int);
+    }
+
+    if (((changeMask & (1L << 53)) != 0)) {
+      object.setProp53(prop53_Int);
+    }
+
+    if (((changeMask & (1L << 52)) != 0)) {
+      object.setProp52(prop52_Int);
+    }
+
+    if (((changeMask & (1L << 19)) != 0)) {
+      object.setProp19(prop19_Int);
+    }
+
+    if (((changeMask & (1L << 18)) != 0)) {
+      object.setProp18(prop18_Int);
+    }
+
+    if (((changeMask & (1L << 15)) != 0)) {
+      object.setProp15(prop15_Int);
+    }
+
+    if (((changeMask & (1L << 59)) != 0)) {
+      object.setProp59(prop59_Int);
+    }
+
+    if (((changeMask & (1L << 14)) != 0)) {
+      object.setProp14(prop14_Int);
+    }
+
+    if (((changeMask & (1L << 58)) != 0)) {
+      object.setProp58(prop58_Int);
+    }
+
+    if (((changeMask & (1L << 17)) != 0)) {
+      object.setProp17(prop17_Int);
+    }
+
+    if (((changeMask & (1L << 16)) != 0)) {
+      object.setProp16(prop16_Int);
+    }
+
+    if (((changeMask & (1L << 60)) != 0)) {
+      object.setProp60(prop60_Int);
+    }
+
+    if (((changeMask & (1L << 0)) != 0)) {
+      object.setProp00(prop00_Int);
+    }
+
+    if (((changeMask & (1L << 44)) != 0)) {
+      object.setProp44(prop44_Int);
+    }
+
+    if (((changeMask & (1L << 43)) != 0)) {
+      object.setProp43(prop43_Int);
+    }
+
+    if (((changeMask & (1L << 2)) != 0)) {
+      object.setProp02(prop02_Int);
+    }
+
+    if (((changeMask & (1L << 46)) != 0)) {
+      object.setProp46(prop46_Int);
+    }
+
+    if (((changeMask & (1L << 1)) != 0)) {
+      object.setProp01(prop01_Int);
+    }
+
+    if (((changeMask & (1L << 45)) != 0)) {
+      object.setProp45(prop45_Int);
+    }
+
+    if (((changeMask & (1L << 40)) != 0)) {
+      object.setProp40(prop40_Int);
+    }
+
+    if (((changeMask & (1L << 42)) != 0)) {
+      object.setProp42(prop42_Int);
+    }
+
+    if (((changeMask & (1L << 41)) != 0)) {
+      object.setProp41(prop41_Int);
+    }
+
+    if (((changeMask & (1L << 8)) != 0)) {
+      object.setProp08(prop08_Int);
+    }
+
+    if (((changeMask & (1L << 7)) != 0)) {
+      object.setProp07(prop07_Int);
+    }
+
+    if (((changeMask & (1L << 9)) != 0)) {
+      object.setProp09(prop09_Int);
+    }
+
+    if (((changeMask & (1L << 4)) != 0)) {
+      object.setProp04(prop04_Int);
+    }
+
+    if (((changeMask & (1L << 48)) != 0)) {
+      object.setProp48(prop48_Int);
+    }
+
+    if (((changeMask & (1L << 3)) != 0)) {
+      object.setProp03(prop03_Int);
+    }
+
+    if (((changeMask & (1L << 47)) != 0)) {
+      object.setProp47(prop47_Int);
+    }
+
+    if (((changeMask & (1L << 6)) != 0)) {
+      object.setProp06(prop06_Int);
+    }
+
+    if (((changeMask & (1L << 5)) != 0)) {
+      object.setProp05(prop05_Int);
+    }
+
+    if (((changeMask & (1L << 49)) != 0)) {
+      object.setProp49(prop49_Int);
+    }
+
+    if (((changeMask & (1L << 33)) != 0)) {
+      object.setProp33(prop33_Int);
+    }
+
+    if (((changeMask & (1L << 32)) != 0)) {
+      object.setProp32(prop32_Int);
+    }
+
+    if (((changeMask & (1L << 35)) != 0)) {
+      object.setProp35(prop35_Int);
+    }
+
+    if (((changeMask & (1L << 34)) != 0)) {
+      object.setProp34(prop34_Int);
+    }
+
+    if (((changeMask & (1L << 31)) != 0)) {
+      object.setProp31(prop31_Int);
+    }
+
+    if (((changeMask & (1L << 30)) != 0)) {
+      object.setProp30(prop30_Int);
+    }
+
+    if (((changeMask & (1L << 37)) != 0)) {
+      object.setProp37(prop37_Int);
+    }
+
+    if (((changeMask & (1L << 36)) != 0)) {
+      object.setProp36(prop36_Int);
+    }
+
+    if (((changeMask & (1L << 39)) != 0)) {
+      object.setProp39(prop39_Int);
+    }
+
+    if (((changeMask & (1L << 38)) != 0)) {
+      object.setProp38(prop38_Int);
+    }
+  }
+
+  @Override
+  public void handlePostBind(final ModelViewWithSixtyFiveIntProps object, int position) {
+    if (onModelBoundListener_epoxyGeneratedModel != null) {
+      onModelBoundListener_epoxyGeneratedModel.onModelBound(this, object, position);
+    }
+    validateStateHasNotChangedSinceAdded("The model was changed during the bind call.", position);
+  }
+
+  /**
+   * Register a listener that will be called when this model is bound to a view.
+   * <p>
+   * The listener will contribute to this model's hashCode state per the {@link
+   * com.airbnb.epoxy.EpoxyAttribute.Option#DoNotHash} rules.
+   * <p>
+   * You may clear the listener by setting a null value, or by calling {@link #reset()}
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ onBind(
+      OnModelBoundListener<ModelViewWithSixtyFiveIntPropsModel_, ModelViewWithSixtyFiveIntProps> listener) {
+    onMutation();
+    this.onModelBoundListener_epoxyGeneratedModel = listener;
+    return this;
+  }
+
+  @Override
+  public void unbind(ModelViewWithSixtyFiveIntProps object) {
+    super.unbind(object);
+    if (onModelUnboundListener_epoxyGeneratedModel != null) {
+      onModelUnboundListener_epoxyGeneratedModel.onModelUnbound(this, object);
+    }
+  }
+
+  /**
+   * Register a listener that will be called when this model is unbound from a view.
+   * <p>
+   * The listener will contribute to this model's hashCode state per the {@link
+   * com.airbnb.epoxy.EpoxyAttribute.Option#DoNotHash} rules.
+   * <p>
+   * You may clear the listener by setting a null value, or by calling {@link #reset()}
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ onUnbind(
+      OnModelUnboundListener<ModelViewWithSixtyFiveIntPropsModel_, ModelViewWithSixtyFiveIntProps> listener) {
+    onMutation();
+    this.onModelUnboundListener_epoxyGeneratedModel = listener;
+    return this;
+  }
+
+  @Override
+  public void onVisibilityStateChanged(int visibilityState,
+      final ModelViewWithSixtyFiveIntProps object) {
+    if (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null) {
+      onModelVisibilityStateChangedListener_epoxyGeneratedModel.onVisibilityStateChanged(this, object, visibilityState);
+    }
+    super.onVisibilityStateChanged(visibilityState, object);
+  }
+
+  /**
+   * Register a listener that will be called when this model visibility state has changed.
+   * <p>
+   * The listener will contribute to this model's hashCode state per the {@link
+   * com.airbnb.epoxy.EpoxyAttribute.Option#DoNotHash} rules.
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ onVisibilityStateChanged(
+      OnModelVisibilityStateChangedListener<ModelViewWithSixtyFiveIntPropsModel_, ModelViewWithSixtyFiveIntProps> listener) {
+    onMutation();
+    this.onModelVisibilityStateChangedListener_epoxyGeneratedModel = listener;
+    return this;
+  }
+
+  @Override
+  public void onVisibilityChanged(float percentVisibleHeight, float percentVisibleWidth,
+      int visibleHeight, int visibleWidth, final ModelViewWithSixtyFiveIntProps object) {
+    if (onModelVisibilityChangedListener_epoxyGeneratedModel != null) {
+      onModelVisibilityChangedListener_epoxyGeneratedModel.onVisibilityChanged(this, object, percentVisibleHeight, percentVisibleWidth, visibleHeight, visibleWidth);
+    }
+    super.onVisibilityChanged(percentVisibleHeight, percentVisibleWidth, visibleHeight, visibleWidth, object);
+  }
+
+  /**
+   * Register a listener that will be called when this model visibility has changed.
+   * <p>
+   * The listener will contribute to this model's hashCode state per the {@link
+   * com.airbnb.epoxy.EpoxyAttribute.Option#DoNotHash} rules.
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ onVisibilityChanged(
+      OnModelVisibilityChangedListener<ModelViewWithSixtyFiveIntPropsModel_, ModelViewWithSixtyFiveIntProps> listener) {
+    onMutation();
+    this.onModelVisibilityChangedListener_epoxyGeneratedModel = listener;
+    return this;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp00(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop00(int prop00) {
+    onMutation();
+    this.prop00_Int = prop00;
+    return this;
+  }
+
+  public int prop00() {
+    return prop00_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp01(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop01(int prop01) {
+    onMutation();
+    this.prop01_Int = prop01;
+    return this;
+  }
+
+  public int prop01() {
+    return prop01_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp02(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop02(int prop02) {
+    onMutation();
+    this.prop02_Int = prop02;
+    return this;
+  }
+
+  public int prop02() {
+    return prop02_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp03(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop03(int prop03) {
+    onMutation();
+    this.prop03_Int = prop03;
+    return this;
+  }
+
+  public int prop03() {
+    return prop03_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp04(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop04(int prop04) {
+    onMutation();
+    this.prop04_Int = prop04;
+    return this;
+  }
+
+  public int prop04() {
+    return prop04_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp05(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop05(int prop05) {
+    onMutation();
+    this.prop05_Int = prop05;
+    return this;
+  }
+
+  public int prop05() {
+    return prop05_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp06(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop06(int prop06) {
+    onMutation();
+    this.prop06_Int = prop06;
+    return this;
+  }
+
+  public int prop06() {
+    return prop06_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp07(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop07(int prop07) {
+    onMutation();
+    this.prop07_Int = prop07;
+    return this;
+  }
+
+  public int prop07() {
+    return prop07_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp08(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop08(int prop08) {
+    onMutation();
+    this.prop08_Int = prop08;
+    return this;
+  }
+
+  public int prop08() {
+    return prop08_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp09(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop09(int prop09) {
+    onMutation();
+    this.prop09_Int = prop09;
+    return this;
+  }
+
+  public int prop09() {
+    return prop09_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp10(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop10(int prop10) {
+    onMutation();
+    this.prop10_Int = prop10;
+    return this;
+  }
+
+  public int prop10() {
+    return prop10_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp11(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop11(int prop11) {
+    onMutation();
+    this.prop11_Int = prop11;
+    return this;
+  }
+
+  public int prop11() {
+    return prop11_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp12(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop12(int prop12) {
+    onMutation();
+    this.prop12_Int = prop12;
+    return this;
+  }
+
+  public int prop12() {
+    return prop12_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp13(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop13(int prop13) {
+    onMutation();
+    this.prop13_Int = prop13;
+    return this;
+  }
+
+  public int prop13() {
+    return prop13_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp14(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop14(int prop14) {
+    onMutation();
+    this.prop14_Int = prop14;
+    return this;
+  }
+
+  public int prop14() {
+    return prop14_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp15(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop15(int prop15) {
+    onMutation();
+    this.prop15_Int = prop15;
+    return this;
+  }
+
+  public int prop15() {
+    return prop15_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp16(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop16(int prop16) {
+    onMutation();
+    this.prop16_Int = prop16;
+    return this;
+  }
+
+  public int prop16() {
+    return prop16_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp17(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop17(int prop17) {
+    onMutation();
+    this.prop17_Int = prop17;
+    return this;
+  }
+
+  public int prop17() {
+    return prop17_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp18(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop18(int prop18) {
+    onMutation();
+    this.prop18_Int = prop18;
+    return this;
+  }
+
+  public int prop18() {
+    return prop18_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp19(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop19(int prop19) {
+    onMutation();
+    this.prop19_Int = prop19;
+    return this;
+  }
+
+  public int prop19() {
+    return prop19_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp20(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop20(int prop20) {
+    onMutation();
+    this.prop20_Int = prop20;
+    return this;
+  }
+
+  public int prop20() {
+    return prop20_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp21(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop21(int prop21) {
+    onMutation();
+    this.prop21_Int = prop21;
+    return this;
+  }
+
+  public int prop21() {
+    return prop21_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp22(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop22(int prop22) {
+    onMutation();
+    this.prop22_Int = prop22;
+    return this;
+  }
+
+  public int prop22() {
+    return prop22_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp23(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop23(int prop23) {
+    onMutation();
+    this.prop23_Int = prop23;
+    return this;
+  }
+
+  public int prop23() {
+    return prop23_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp24(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop24(int prop24) {
+    onMutation();
+    this.prop24_Int = prop24;
+    return this;
+  }
+
+  public int prop24() {
+    return prop24_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp25(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop25(int prop25) {
+    onMutation();
+    this.prop25_Int = prop25;
+    return this;
+  }
+
+  public int prop25() {
+    return prop25_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp26(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop26(int prop26) {
+    onMutation();
+    this.prop26_Int = prop26;
+    return this;
+  }
+
+  public int prop26() {
+    return prop26_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp27(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop27(int prop27) {
+    onMutation();
+    this.prop27_Int = prop27;
+    return this;
+  }
+
+  public int prop27() {
+    return prop27_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp28(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop28(int prop28) {
+    onMutation();
+    this.prop28_Int = prop28;
+    return this;
+  }
+
+  public int prop28() {
+    return prop28_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp29(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop29(int prop29) {
+    onMutation();
+    this.prop29_Int = prop29;
+    return this;
+  }
+
+  public int prop29() {
+    return prop29_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp30(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop30(int prop30) {
+    onMutation();
+    this.prop30_Int = prop30;
+    return this;
+  }
+
+  public int prop30() {
+    return prop30_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp31(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop31(int prop31) {
+    onMutation();
+    this.prop31_Int = prop31;
+    return this;
+  }
+
+  public int prop31() {
+    return prop31_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp32(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop32(int prop32) {
+    onMutation();
+    this.prop32_Int = prop32;
+    return this;
+  }
+
+  public int prop32() {
+    return prop32_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp33(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop33(int prop33) {
+    onMutation();
+    this.prop33_Int = prop33;
+    return this;
+  }
+
+  public int prop33() {
+    return prop33_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp34(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop34(int prop34) {
+    onMutation();
+    this.prop34_Int = prop34;
+    return this;
+  }
+
+  public int prop34() {
+    return prop34_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp35(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop35(int prop35) {
+    onMutation();
+    this.prop35_Int = prop35;
+    return this;
+  }
+
+  public int prop35() {
+    return prop35_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp36(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop36(int prop36) {
+    onMutation();
+    this.prop36_Int = prop36;
+    return this;
+  }
+
+  public int prop36() {
+    return prop36_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp37(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop37(int prop37) {
+    onMutation();
+    this.prop37_Int = prop37;
+    return this;
+  }
+
+  public int prop37() {
+    return prop37_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp38(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop38(int prop38) {
+    onMutation();
+    this.prop38_Int = prop38;
+    return this;
+  }
+
+  public int prop38() {
+    return prop38_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp39(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop39(int prop39) {
+    onMutation();
+    this.prop39_Int = prop39;
+    return this;
+  }
+
+  public int prop39() {
+    return prop39_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp40(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop40(int prop40) {
+    onMutation();
+    this.prop40_Int = prop40;
+    return this;
+  }
+
+  public int prop40() {
+    return prop40_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp41(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop41(int prop41) {
+    onMutation();
+    this.prop41_Int = prop41;
+    return this;
+  }
+
+  public int prop41() {
+    return prop41_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp42(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop42(int prop42) {
+    onMutation();
+    this.prop42_Int = prop42;
+    return this;
+  }
+
+  public int prop42() {
+    return prop42_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp43(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop43(int prop43) {
+    onMutation();
+    this.prop43_Int = prop43;
+    return this;
+  }
+
+  public int prop43() {
+    return prop43_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp44(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop44(int prop44) {
+    onMutation();
+    this.prop44_Int = prop44;
+    return this;
+  }
+
+  public int prop44() {
+    return prop44_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp45(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop45(int prop45) {
+    onMutation();
+    this.prop45_Int = prop45;
+    return this;
+  }
+
+  public int prop45() {
+    return prop45_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp46(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop46(int prop46) {
+    onMutation();
+    this.prop46_Int = prop46;
+    return this;
+  }
+
+  public int prop46() {
+    return prop46_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp47(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop47(int prop47) {
+    onMutation();
+    this.prop47_Int = prop47;
+    return this;
+  }
+
+  public int prop47() {
+    return prop47_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp48(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop48(int prop48) {
+    onMutation();
+    this.prop48_Int = prop48;
+    return this;
+  }
+
+  public int prop48() {
+    return prop48_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp49(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop49(int prop49) {
+    onMutation();
+    this.prop49_Int = prop49;
+    return this;
+  }
+
+  public int prop49() {
+    return prop49_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp50(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop50(int prop50) {
+    onMutation();
+    this.prop50_Int = prop50;
+    return this;
+  }
+
+  public int prop50() {
+    return prop50_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp51(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop51(int prop51) {
+    onMutation();
+    this.prop51_Int = prop51;
+    return this;
+  }
+
+  public int prop51() {
+    return prop51_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp52(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop52(int prop52) {
+    onMutation();
+    this.prop52_Int = prop52;
+    return this;
+  }
+
+  public int prop52() {
+    return prop52_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp53(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop53(int prop53) {
+    onMutation();
+    this.prop53_Int = prop53;
+    return this;
+  }
+
+  public int prop53() {
+    return prop53_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp54(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop54(int prop54) {
+    onMutation();
+    this.prop54_Int = prop54;
+    return this;
+  }
+
+  public int prop54() {
+    return prop54_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp55(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop55(int prop55) {
+    onMutation();
+    this.prop55_Int = prop55;
+    return this;
+  }
+
+  public int prop55() {
+    return prop55_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp56(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop56(int prop56) {
+    onMutation();
+    this.prop56_Int = prop56;
+    return this;
+  }
+
+  public int prop56() {
+    return prop56_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp57(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop57(int prop57) {
+    onMutation();
+    this.prop57_Int = prop57;
+    return this;
+  }
+
+  public int prop57() {
+    return prop57_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp58(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop58(int prop58) {
+    onMutation();
+    this.prop58_Int = prop58;
+    return this;
+  }
+
+  public int prop58() {
+    return prop58_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp59(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop59(int prop59) {
+    onMutation();
+    this.prop59_Int = prop59;
+    return this;
+  }
+
+  public int prop59() {
+    return prop59_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp60(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop60(int prop60) {
+    onMutation();
+    this.prop60_Int = prop60;
+    return this;
+  }
+
+  public int prop60() {
+    return prop60_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp61(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop61(int prop61) {
+    onMutation();
+    this.prop61_Int = prop61;
+    return this;
+  }
+
+  public int prop61() {
+    return prop61_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp62(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop62(int prop62) {
+    onMutation();
+    this.prop62_Int = prop62;
+    return this;
+  }
+
+  public int prop62() {
+    return prop62_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp63(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop63(int prop63) {
+    onMutation();
+    this.prop63_Int = prop63;
+    return this;
+  }
+
+  public int prop63() {
+    return prop63_Int;
+  }
+
+  /**
+   * <i>Optional</i>: Default value is 0
+   *
+   * @see ModelViewWithSixtyFiveIntProps#setProp64(int)
+   */
+  public ModelViewWithSixtyFiveIntPropsModel_ prop64(int prop64) {
+    onMutation();
+    this.prop64_Int = prop64;
+    return this;
+  }
+
+  public int prop64() {
+    return prop64_Int;
+  }
+
+  @Override
+  public ModelViewWithSixtyFiveIntPropsModel_ id(long id) {
+    super.id(id);
+    return this;
+  }
+
+  @Override
+  public ModelViewWithSixtyFiveIntPropsModel_ id(@Nullable Number... ids) {
+    super.id(ids);
+    return this;
+  }
+
+  @Override
+  public ModelViewWithSixtyFiveIntPropsModel_ id(long id1, long id2) {
+    super.id(id1, id2);
+    return this;
+  }
+
+  @Override
+  public ModelViewWithSixtyFiveIntPropsModel_ id(@Nullable CharSequence key) {
+    super.id(key);
+    return this;
+  }
+
+  @Override
+  public ModelViewWithSixtyFiveIntPropsModel_ id(@Nullable CharSequence key,
+      @Nullable CharSequence... otherKeys) {
+    super.id(key, otherKeys);
+    return this;
+  }
+
+  @Override
+  public ModelViewWithSixtyFiveIntPropsModel_ id(@Nullable CharSequence key, long id) {
+    super.id(key, id);
+    return this;
+  }
+
+  @Override
+  public ModelViewWithSixtyFiveIntPropsModel_ layout(@LayoutRes int layoutRes) {
+    throw new UnsupportedOperationException("Layout resources are unsupported with programmatic views.");
+  }
+
+  @Override
+  public ModelViewWithSixtyFiveIntPropsModel_ spanSizeOverride(
+      @Nullable EpoxyModel.SpanSizeOverrideCallback spanSizeCallback) {
+    super.spanSizeOverride(spanSizeCallback);
+    return this;
+  }
+
+  @Override
+  public ModelViewWithSixtyFiveIntPropsModel_ show() {
+    super.show();
+    return this;
+  }
+
+  @Override
+  public ModelViewWithSixtyFiveIntPropsModel_ show(boolean show) {
+    super.show(show);
+    return this;
+  }
+
+  @Override
+  public ModelViewWithSixtyFiveIntPropsModel_ hide() {
+    super.hide();
+    return this;
+  }
+
+  @Override
+  @LayoutRes
+  protected int getDefaultLayout() {
+    throw new UnsupportedOperationException("Layout resources are unsupported for views created programmatically.");
+  }
+
+  @Override
+  public ModelViewWithSixtyFiveIntPropsModel_ reset() {
+    onModelBoundListener_epoxyGeneratedModel = null;
+    onModelUnboundListener_epoxyGeneratedModel = null;
+    onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
+    onModelVisibilityChangedListener_epoxyGeneratedModel = null;
+    this.prop00_Int = 0;
+    this.prop01_Int = 0;
+    this.prop02_Int = 0;
+    this.prop03_Int = 0;
+    this.prop04_Int = 0;
+    this.prop05_Int = 0;
+    this.prop06_Int = 0;
+    this.prop07_Int = 0;
+    this.prop08_Int = 0;
+    this.prop09_Int = 0;
+    this.prop10_Int = 0;
+    this.prop11_Int = 0;
+    this.prop12_Int = 0;
+    this.prop13_Int = 0;
+    this.prop14_Int = 0;
+    this.prop15_Int = 0;
+    this.prop16_Int = 0;
+    this.prop17_Int = 0;
+    this.prop18_Int = 0;
+    this.prop19_Int = 0;
+    this.prop20_Int = 0;
+    this.prop21_Int = 0;
+    this.prop22_Int = 0;
+    this.prop23_Int = 0;
+    this.prop24_Int = 0;
+    this.prop25_Int = 0;
+    this.prop26_Int = 0;
+    this.prop27_Int = 0;
+    this.prop28_Int = 0;
+    this.prop29_Int = 0;
+    this.prop30_Int = 0;
+    this.prop31_Int = 0;
+    this.prop32_Int = 0;
+    this.prop33_Int = 0;
+    this.prop34_Int = 0;
+    this.prop35_Int = 0;
+    this.prop36_Int = 0;
+    this.prop37_Int = 0;
+    this.prop38_Int = 0;
+    this.prop39_Int = 0;
+    this.prop40_Int = 0;
+    this.prop41_Int = 0;
+    this.prop42_Int = 0;
+    this.prop43_Int = 0;
+    this.prop44_Int = 0;
+    this.prop45_Int = 0;
+    this.prop46_Int = 0;
+    this.prop47_Int = 0;
+    this.prop48_Int = 0;
+    this.prop49_Int = 0;
+    this.prop50_Int = 0;
+    this.prop51_Int = 0;
+    this.prop52_Int = 0;
+    this.prop53_Int = 0;
+    this.prop54_Int = 0;
+    this.prop55_Int = 0;
+    this.prop56_Int = 0;
+    this.prop57_Int = 0;
+    this.prop58_Int = 0;
+    this.prop59_Int = 0;
+    this.prop60_Int = 0;
+    this.prop61_Int = 0;
+    this.prop62_Int = 0;
+    this.prop63_Int = 0;
+    this.prop64_Int = 0;
+    super.reset();
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof ModelViewWithSixtyFiveIntPropsModel_)) {
+      return false;
+    }
+    if (!super.equals(o)) {
+      return false;
+    }
+    ModelViewWithSixtyFiveIntPropsModel_ that = (ModelViewWithSixtyFiveIntPropsModel_) o;
+    if (((onModelBoundListener_epoxyGeneratedModel == null) != (that.onModelBoundListener_epoxyGeneratedModel == null))) {
+      return false;
+    }
+    if (((onModelUnboundListener_epoxyGeneratedModel == null) != (that.onModelUnboundListener_epoxyGeneratedModel == null))) {
+      return false;
+    }
+    if (((onModelVisibilityStateChangedListener_epoxyGeneratedModel == null) != (that.onModelVisibilityStateChangedListener_epoxyGeneratedModel == null))) {
+      return false;
+    }
+    if (((onModelVisibilityChangedListener_epoxyGeneratedModel == null) != (that.onModelVisibilityChangedListener_epoxyGeneratedModel == null))) {
+      return false;
+    }
+    if ((prop00_Int != that.prop00_Int)) {
+      return false;
+    }
+    if ((prop01_Int != that.prop01_Int)) {
+      return false;
+    }
+    if ((prop02_Int != that.prop02_Int)) {
+      return false;
+    }
+    if ((prop03_Int != that.prop03_Int)) {
+      return false;
+    }
+    if ((prop04_Int != that.prop04_Int)) {
+      return false;
+    }
+    if ((prop05_Int != that.prop05_Int)) {
+      return false;
+    }
+    if ((prop06_Int != that.prop06_Int)) {
+      return false;
+    }
+    if ((prop07_Int != that.prop07_Int)) {
+      return false;
+    }
+    if ((prop08_Int != that.prop08_Int)) {
+      return false;
+    }
+    if ((prop09_Int != that.prop09_Int)) {
+      return false;
+    }
+    if ((prop10_Int != that.prop10_Int)) {
+      return false;
+    }
+    if ((prop11_Int != that.prop11_Int)) {
+      return false;
+    }
+    if ((prop12_Int != that.prop12_Int)) {
+      return false;
+    }
+    if ((prop13_Int != that.prop13_Int)) {
+      return false;
+    }
+    if ((prop14_Int != that.prop14_Int)) {
+      return false;
+    }
+    if ((prop15_Int != that.prop15_Int)) {
+      return false;
+    }
+    if ((prop16_Int != that.prop16_Int)) {
+      return false;
+    }
+    if ((prop17_Int != that.prop17_Int)) {
+      return false;
+    }
+    if ((prop18_Int != that.prop18_Int)) {
+      return false;
+    }
+    if ((prop19_Int != that.prop19_Int)) {
+      return false;
+    }
+    if ((prop20_Int != that.prop20_Int)) {
+      return false;
+    }
+    if ((prop21_Int != that.prop21_Int)) {
+      return false;
+    }
+    if ((prop22_Int != that.prop22_Int)) {
+      return false;
+    }
+    if ((prop23_Int != that.prop23_Int)) {
+      return false;
+    }
+    if ((prop24_Int != that.prop24_Int)) {
+      return false;
+    }
+    if ((prop25_Int != that.prop25_Int)) {
+      return false;
+    }
+    if ((prop26_Int != that.prop26_Int)) {
+      return false;
+    }
+    if ((prop27_Int != that.prop27_Int)) {
+      return false;
+    }
+    if ((prop28_Int != that.prop28_Int)) {
+      return false;
+    }
+    if ((prop29_Int != that.prop29_Int)) {
+      return false;
+    }
+    if ((prop30_Int != that.prop30_Int)) {
+      return false;
+    }
+    if ((prop31_Int != that.prop31_Int)) {
+      return false;
+    }
+    if ((prop32_Int != that.prop32_Int)) {
+      return false;
+    }
+    if ((prop33_Int != that.prop33_Int)) {
+      return false;
+    }
+    if ((prop34_Int != that.prop34_Int)) {
+      return false;
+    }
+    if ((prop35_Int != that.prop35_Int)) {
+      return false;
+    }
+    if ((prop36_Int != that.prop36_Int)) {
+      return false;
+    }
+    if ((prop37_Int != that.prop37_Int)) {
+      return false;
+    }
+    if ((prop38_Int != that.prop38_Int)) {
+      return false;
+    }
+    if ((prop39_Int != that.prop39_Int)) {
+      return false;
+    }
+    if ((prop40_Int != that.prop40_Int)) {
+      return false;
+    }
+    if ((prop41_Int != that.prop41_Int)) {
+      return false;
+    }
+    if ((prop42_Int != that.prop42_Int)) {
+      return false;
+    }
+    if ((prop43_Int != that.prop43_Int)) {
+      return false;
+    }
+    if ((prop44_Int != that.prop44_Int)) {
+      return false;
+    }
+    if ((prop45_Int != that.prop45_Int)) {
+      return false;
+    }
+    if ((prop46_Int != that.prop46_Int)) {
+      return false;
+    }
+    if ((prop47_Int != that.prop47_Int)) {
+      return false;
+    }
+    if ((prop48_Int != that.prop48_Int)) {
+      return false;
+    }
+    if ((prop49_Int != that.prop49_Int)) {
+      return false;
+    }
+    if ((prop50_Int != that.prop50_Int)) {
+      return false;
+    }
+    if ((prop51_Int != that.prop51_Int)) {
+      return false;
+    }
+    if ((prop52_Int != that.prop52_Int)) {
+      return false;
+    }
+    if ((prop53_Int != that.prop53_Int)) {
+      return false;
+    }
+    if ((prop54_Int != that.prop54_Int)) {
+      return false;
+    }
+    if ((prop55_Int != that.prop55_Int)) {
+      return false;
+    }
+    if ((prop56_Int != that.prop56_Int)) {
+      return false;
+    }
+    if ((prop57_Int != that.prop57_Int)) {
+      return false;
+    }
+    if ((prop58_Int != that.prop58_Int)) {
+      return false;
+    }
+    if ((prop59_Int != that.prop59_Int)) {
+      return false;
+    }
+    if ((prop60_Int != that.prop60_Int)) {
+      return false;
+    }
+    if ((prop61_Int != that.prop61_Int)) {
+      return false;
+    }
+    if ((prop62_Int != that.prop62_Int)) {
+      return false;
+    }
+    if ((prop63_Int != that.prop63_Int)) {
+      return false;
+    }
+    if ((prop64_Int != that.prop64_Int)) {
+      return false;
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int _result = super.hashCode();
+    _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
+    _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
+    _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
+    _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
+    _result = 31 * _result + prop00_Int;
+    _result = 31 * _result + prop01_Int;
+    _result = 31 * _result + prop02_Int;
+    _result = 31 * _result + prop03_Int;
+    _result = 31 * _result + prop04_Int;
+    _result = 31 * _result + prop05_Int;
+    _result = 31 * _result + prop06_Int;
+    _result = 31 * _result + prop07_Int;
+    _result = 31 * _result + prop08_Int;
+    _result = 31 * _result + prop09_Int;
+    _result = 31 * _result + prop10_Int;
+    _result = 31 * _result + prop11_Int;
+    _result = 31 * _result + prop12_Int;
+    _result = 31 * _result + prop13_Int;
+    _result = 31 * _result + prop14_Int;
+    _result = 31 * _result + prop15_Int;
+    _result = 31 * _result + prop16_Int;
+    _result = 31 * _result + prop17_Int;
+    _result = 31 * _result + prop18_Int;
+    _result = 31 * _result + prop19_Int;
+    _result = 31 * _result + prop20_Int;
+    _result = 31 * _result + prop21_Int;
+    _result = 31 * _result + prop22_Int;
+    _result = 31 * _result + prop23_Int;
+    _result = 31 * _result + prop24_Int;
+    _result = 31 * _result + prop25_Int;
+    _result = 31 * _result + prop26_Int;
+    _result = 31 * _result + prop27_Int;
+    _result = 31 * _result + prop28_Int;
+    _result = 31 * _result + prop29_Int;
+    _result = 31 * _result + prop30_Int;
+    _result = 31 * _result + prop31_Int;
+    _result = 31 * _result + prop32_Int;
+    _result = 31 * _result + prop33_Int;
+    _result = 31 * _result + prop34_Int;
+    _result = 31 * _result + prop35_Int;
+    _result = 31 * _result + prop36_Int;
+    _result = 31 * _result + prop37_Int;
+    _result = 31 * _result + prop38_Int;
+    _result = 31 * _result + prop39_Int;
+    _result = 31 * _result + prop40_Int;
+    _result = 31 * _result + prop41_Int;
+    _result = 31 * _result + prop42_Int;
+    _result = 31 * _result + prop43_Int;
+    _result = 31 * _result + prop44_Int;
+    _result = 31 * _result + prop45_Int;
+    _result = 31 * _result + prop46_Int;
+    _result = 31 * _result + prop47_Int;
+    _result = 31 * _result + prop48_Int;
+    _result = 31 * _result + prop49_Int;
+    _result = 31 * _result + prop50_Int;
+    _result = 31 * _result + prop51_Int;
+    _result = 31 * _result + prop52_Int;
+    _result = 31 * _result + prop53_Int;
+    _result = 31 * _result + prop54_Int;
+    _result = 31 * _result + prop55_Int;
+    _result = 31 * _result + prop56_Int;
+    _result = 31 * _result + prop57_Int;
+    _result = 31 * _result + prop58_Int;
+    _result = 31 * _result + prop59_Int;
+    _result = 31 * _result + prop60_Int;
+    _result = 31 * _result + prop61_Int;
+    _result = 31 * _result + prop62_Int;
+    _result = 31 * _result + prop63_Int;
+    _result = 31 * _result + prop64_Int;
+    return _result;
+  }
+
+  @Override
+  public String toString() {
+    return "ModelViewWithSixtyFiveIntPropsModel_{" +
+        "prop00_Int=" + prop00_Int +
+        ", prop01_Int=" + prop01_Int +
+        ", prop02_Int=" + prop02_Int +
+        ", prop03_Int=" + prop03_Int +
+        ", prop04_Int=" + prop04_Int +
+        ", prop05_Int=" + prop05_Int +
+        ", prop06_Int=" + prop06_Int +
+        ", prop07_Int=" + prop07_Int +
+        ", prop08_Int=" + prop08_Int +
+        ", prop09_Int=" + prop09_Int +
+        ", prop10_Int=" + prop10_Int +
+        ", prop11_Int=" + prop11_Int +
+        ", prop12_Int=" + prop12_Int +
+        ", prop13_Int=" + prop13_Int +
+        ", prop14_Int=" + prop14_Int +
+        ", prop15_Int=" + prop15_Int +
+        ", prop16_Int=" + prop16_Int +
+        ", prop17_Int=" + prop17_Int +
+        ", prop18_Int=" + prop18_Int +
+        ", prop19_Int=" + prop19_Int +
+        ", prop20_Int=" + prop20_Int +
+        ", prop21_Int=" + prop21_Int +
+        ", prop22_Int=" + prop22_Int +
+        ", prop23_Int=" + prop23_Int +
+        ", prop24_Int=" + prop24_Int +
+        ", prop25_Int=" + prop25_Int +
+        ", prop26_Int=" + prop26_Int +
+        ", prop27_Int=" + prop27_Int +
+        ", prop28_Int=" + prop28_Int +
+        ", prop29_Int=" + prop29_Int +
+        ", prop30_Int=" + prop30_Int +
+        ", prop31_Int=" + prop31_Int +
+        ", prop32_Int=" + prop32_Int +
+        ", prop33_Int=" + prop33_Int +
+        ", prop34_Int=" + prop34_Int +
+        ", prop35_Int=" + prop35_Int +
+        ", prop36_Int=" + prop36_Int +
+        ", prop37_Int=" + prop37_Int +
+        ", prop38_Int=" + prop38_Int +
+        ", prop39_Int=" + prop39_Int +
+        ", prop40_Int=" + prop40_Int +
+        ", prop41_Int=" + prop41_Int +
+        ", prop42_Int=" + prop42_Int +
+        ", prop43_Int=" + prop43_Int +
+        ", prop44_Int=" + prop44_Int +
+        ", prop45_Int=" + prop45_Int +
+        ", prop46_Int=" + prop46_Int +
+        ", prop47_Int=" + prop47_Int +
+        ", prop48_Int=" + prop48_Int +
+        ", prop49_Int=" + prop49_Int +
+        ", prop50_Int=" + prop50_Int +
+        ", prop51_Int=" + prop51_Int +
+        ", prop52_Int=" + prop52_Int +
+        ", prop53_Int=" + prop53_Int +
+        ", prop54_Int=" + prop54_Int +
+        ", prop55_Int=" + prop55_Int +
+        ", prop56_Int=" + prop56_Int +
+        ", prop57_Int=" + prop57_Int +
+        ", prop58_Int=" + prop58_Int +
+        ", prop59_Int=" + prop59_Int +
+        ", prop60_Int=" + prop60_Int +
+        ", prop61_Int=" + prop61_Int +
+        ", prop62_Int=" + prop62_Int +
+        ", prop63_Int=" + prop63_Int +
+        ", prop64_Int=" + prop64_Int +
+        "}" + super.toString();
+  }
+
+  @Override
+  public int getSpanSize(int totalSpanCount, int position, int itemCount) {
+    return totalSpanCount;
+  }
+}